@@ -0,0 +1,58 @@
+package io.Term_2D_Game.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.JsonReader;
+
+import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.LevelData;
+import io.Term_2D_Game.headless.NoOpGL20;
+
+/**
+ * 벤치마크 공통 준비: 헤드리스 libGDX + 아무것도 하지 않는 GL로 에셋을 한 번만 로드하고,
+ * 실제 레벨(level_N)과 생성 레벨(synthetic_타일수)을 같은 방식으로 GameWorld에 올린다.
+ */
+public class BenchmarkSupport {
+    public static final String SYNTHETIC_PREFIX = "synthetic_";
+
+    private static boolean initialized = false;
+
+    public static synchronized void init() {
+        if (initialized) return;
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(new ApplicationAdapter() {}, configuration);
+        Gdx.gl = Gdx.gl20 = NoOpGL20.create();
+        Assets.load();
+        initialized = true;
+    }
+
+    /** 레벨 이름에 해당하는 파싱된 데이터 (생성 레벨이면 새로 만든다) */
+    public static LevelData levelData(String level) {
+        if (level.startsWith(SYNTHETIC_PREFIX)) {
+            return SyntheticLevel.generate(Integer.parseInt(level.substring(SYNTHETIC_PREFIX.length())));
+        }
+        LevelData data = new LevelData();
+        data.readJson(new JsonReader().parse(levelJson(level)));
+        return data;
+    }
+
+    public static String levelJson(String level) {
+        if (level.startsWith(SYNTHETIC_PREFIX)) {
+            return SyntheticLevel.toJson(levelData(level));
+        }
+        return Gdx.files.internal("levels/" + level + ".json").readString("UTF-8");
+    }
+
+    /** level을 로드한 GameWorld (생성 레벨은 파일 없이 등록) */
+    public static GameWorld createWorld(String level) {
+        GameWorld gameWorld = new GameWorld();
+        if (level.startsWith(SYNTHETIC_PREFIX)) {
+            gameWorld.level.registerLevelData(level, levelData(level));
+        }
+        gameWorld.loadLevel(level);
+        return gameWorld;
+    }
+}
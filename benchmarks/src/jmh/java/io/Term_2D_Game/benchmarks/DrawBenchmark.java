@@ -0,0 +1,87 @@
+package io.Term_2D_Game.benchmarks;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.Term_2D_Game.GameWorld;
+
+/**
+ * 그리기 제출 비용 (CPU 측). GL 호출은 아무것도 하지 않으므로 컬링, 정점 생성, flush 준비 비용만 측정된다.
+ * 화면 영역은 매 호출마다 오른쪽으로 한 칸씩 이동하며 레벨 전체를 훑는다.
+ * 청크 스트리밍도 화면 중앙을 따라가므로 청크 활성화/렌더 캐시 기록 비용이 나눠서 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawBenchmark {
+    private static final float VIEW_WIDTH = 960;
+    private static final float VIEW_HEIGHT = 540;
+
+    @Param({"level_1", "level_2", "level_3", "synthetic_10000", "synthetic_100000"})
+    public String level;
+
+    private GameWorld gameWorld;
+    private SpriteBatch batch;
+    private final Matrix4 projection = new Matrix4();
+    private final Rectangle view = new Rectangle();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.init();
+        gameWorld = BenchmarkSupport.createWorld(level);
+        batch = new SpriteBatch();
+        view.set(0, 0, VIEW_WIDTH, VIEW_HEIGHT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batch.dispose();
+        gameWorld.dispose();
+    }
+
+    private void moveView() {
+        float levelWidth = gameWorld.level.getLevelSize().x;
+        float levelHeight = gameWorld.level.getLevelSize().y;
+        view.x += 64f;
+        if (view.x + VIEW_WIDTH > levelWidth) {
+            view.x = 0;
+            view.y += VIEW_HEIGHT / 2f;
+            if (view.y + VIEW_HEIGHT > levelHeight) view.y = 0;
+        }
+        projection.setToOrtho2D(view.x, view.y, VIEW_WIDTH, VIEW_HEIGHT);
+        gameWorld.level.updateStreaming(view.x + VIEW_WIDTH / 2f);
+    }
+
+    // 움직이는 객체, 아이콘, 말풍선, 플레이어, 이펙트 (SpriteBatch)
+    @Benchmark
+    public int drawDynamic() {
+        moveView();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        gameWorld.draw(batch, view);
+        batch.end();
+        return batch.renderCalls;
+    }
+
+    // 정적 지형 (SpriteCache 청크)
+    @Benchmark
+    public int drawStatic() {
+        moveView();
+        gameWorld.drawStatic(projection, view);
+        return gameWorld.getDrawnTerrainChunks();
+    }
+}
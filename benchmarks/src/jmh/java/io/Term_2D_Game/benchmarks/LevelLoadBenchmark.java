@@ -0,0 +1,76 @@
+package io.Term_2D_Game.benchmarks;
+
+import com.badlogic.gdx.utils.JsonReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.LevelData;
+
+/**
+ * 레벨 로딩 비용: JSON/바이너리 파싱, 그리고 월드 정리 + 블록/Body 생성 (GameWorld.loadLevel).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelLoadBenchmark {
+    @Param({"level_1", "level_2", "level_3", "synthetic_10000", "synthetic_100000"})
+    public String level;
+
+    private String json;
+    private byte[] binary;
+    private final JsonReader jsonReader = new JsonReader();
+    private final LevelData data = new LevelData();
+    private GameWorld gameWorld;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        json = BenchmarkSupport.levelJson(level);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BenchmarkSupport.levelData(level).writeBinary(new DataOutputStream(bytes));
+        binary = bytes.toByteArray();
+
+        gameWorld = BenchmarkSupport.createWorld(level);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    @Benchmark
+    public LevelData parseJson() {
+        data.readJson(jsonReader.parse(json));
+        return data;
+    }
+
+    @Benchmark
+    public LevelData parseBinary() {
+        data.readBinary(ByteBuffer.wrap(binary));
+        return data;
+    }
+
+    // 파싱 결과는 Level에 캐시되어 있으므로 객체/Body 생성과 이전 레벨 정리 비용만 측정된다
+    @Benchmark
+    public int createBodies() {
+        gameWorld.loadLevel(level);
+        return gameWorld.box2dWorld.getBodyCount();
+    }
+}
@@ -0,0 +1,85 @@
+package io.Term_2D_Game.benchmarks;
+
+import java.util.Random;
+
+import io.Term_2D_Game.LevelData;
+
+/**
+ * 지정한 타일 수만큼 지형(모래/돌 띠, 중간중간 구멍)과 상자를 채운 큰 레벨을 만든다.
+ * 같은 타일 수면 항상 같은 레벨이 나온다 (고정 시드).
+ */
+public class SyntheticLevel {
+    private static final int WIDTH = 500; // 타일
+    private static final long SEED = 42L;
+
+    public static LevelData generate(int tileCount) {
+        Random random = new Random(SEED);
+        int capacity = tileCount; // 블록 묶음 수는 타일 수보다 많을 수 없다
+        LevelData data = new LevelData();
+        data.blockTypes = new byte[capacity];
+        data.blockX = new float[capacity];
+        data.blockY = new float[capacity];
+        data.blockLength = new int[capacity];
+        data.blockSprites = new String[capacity];
+        data.blockMessages = new String[capacity];
+        data.blockNextLevels = new String[capacity];
+
+        int placed = 0;
+        int y = 0;
+        while (placed < tileCount) {
+            int x = random.nextInt(3);
+            while (x < WIDTH && placed < tileCount) {
+                int length = Math.min(Math.min(2 + random.nextInt(20), WIDTH - x), tileCount - placed);
+                int b = data.blockCount++;
+                if (random.nextInt(100) == 0) {
+                    data.blockTypes[b] = LevelData.TYPE_BOX;
+                    data.blockSprites[b] = "block_planks";
+                    length = 1;
+                } else {
+                    boolean stone = (y / 4) % 2 == 1;
+                    data.blockTypes[b] = stone ? LevelData.TYPE_STONE : LevelData.TYPE_SAND;
+                    data.blockSprites[b] = null; // 자동 타일
+                }
+                data.blockX[b] = x;
+                data.blockY[b] = y;
+                data.blockLength[b] = length;
+                placed += length;
+                x += length + random.nextInt(4); // 0~3칸 구멍
+            }
+            y++;
+        }
+
+        data.levelWidth = WIDTH * 64f;
+        data.levelHeight = (y + 10) * 64f;
+        data.playerStartX = 64f;
+        data.playerStartY = (y + 1) * 64f;
+        return data;
+    }
+
+    // levels/*.json 과 같은 형식 (sprite가 없는 지형은 생략)
+    public static String toJson(LevelData data) {
+        StringBuilder json = new StringBuilder(data.blockCount * 80);
+        json.append("{\n  \"playerStart\": {\"x\":").append(data.playerStartX).append(", \"y\":").append(data.playerStartY).append("},\n");
+        json.append("  \"levelSize\": {\"x\":").append(data.levelWidth).append(", \"y\":").append(data.levelHeight).append("},\n");
+        json.append("  \"blocks\": [\n");
+        for (int i = 0; i < data.blockCount; i++) {
+            json.append("    {\"x\": ").append((int) data.blockX[i])
+                .append(", \"y\": ").append((int) data.blockY[i])
+                .append(", \"type\":\"").append(typeName(data.blockTypes[i]))
+                .append('"');
+            if (data.blockSprites[i] != null) json.append(", \"sprite\": \"").append(data.blockSprites[i]).append('"');
+            json.append(",\"length\": ").append(data.blockLength[i]).append('}')
+                .append(i + 1 < data.blockCount ? ",\n" : "\n");
+        }
+        json.append("  ],\n  \"icons\": []\n}\n");
+        return json.toString();
+    }
+
+    private static String typeName(byte type) {
+        switch (type) {
+            case LevelData.TYPE_STONE: return "stone";
+            case LevelData.TYPE_BOX: return "box";
+            default: return "sand";
+        }
+    }
+}
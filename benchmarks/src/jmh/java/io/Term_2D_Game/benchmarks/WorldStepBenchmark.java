@@ -0,0 +1,68 @@
+package io.Term_2D_Game.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.Input.Action;
+import io.Term_2D_Game.Input.InputSource;
+
+/**
+ * 틱당 시뮬레이션 비용. 플레이어는 오른쪽으로 달리며 주기적으로 점프/공격/대시한다.
+ * (레벨 밖으로 떨어지면 GameWorld가 알아서 재시작하므로 긴 측정에서도 계속 움직인다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldStepBenchmark {
+    @Param({"level_1", "level_2", "level_3", "synthetic_10000", "synthetic_100000"})
+    public String level;
+
+    private GameWorld gameWorld;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.init();
+        gameWorld = BenchmarkSupport.createWorld(level);
+        gameWorld.setInputSource(new InputSource() {
+            private int tick = 0;
+
+            @Override
+            public int poll() {
+                int t = tick++ % 120;
+                int mask = Action.RIGHT.bit;
+                if (t < 20) mask |= Action.JUMP.bit;
+                if (t == 40) mask |= Action.ATTACK.bit;
+                if (t == 80) mask |= Action.DASH.bit;
+                return mask;
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    // GameWorld 한 틱 (입력, 물리, 플레이어, 이펙트)
+    @Benchmark
+    public void tick() {
+        gameWorld.update(GameWorld.TIME_STEP);
+    }
+
+    // 물리 스텝만
+    @Benchmark
+    public void physicsStep() {
+        gameWorld.box2dWorld.step(GameWorld.TIME_STEP, 8, 3);
+    }
+}
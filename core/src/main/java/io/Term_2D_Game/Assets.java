@@ -1,82 +1,232 @@
 package io.Term_2D_Game;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Assets {
-    public static Map<String, Texture> textures = new HashMap<>();
-    public static Map<String, Animation<TextureRegion>> animations = new HashMap<>();
+    // 빌드 시 packTextures 태스크가 에셋 그룹마다 생성하는 아틀라스 (없으면 PNG를 개별 로드)
+    // 공통 아틀라스는 항상 올려 두고, 나머지는 그 그룹의 리전을 참조하는 레벨이 있을 때만 올린다 (atlasOf)
+    public static final String[] COMMON_ATLASES = {"atlas/common.atlas", "atlas/player.atlas"};
+    public static final String[] ATLAS_FILES = {"atlas/common.atlas", "atlas/player.atlas",
+        "atlas/objects.atlas", "atlas/sand.atlas", "atlas/stone.atlas", "atlas/inputs.atlas"};
+
+    // get()/getAnimation()은 잠그지 않고 여러 스레드에서 읽으므로 ConcurrentHashMap (쓰기는 synchronized 메서드에서만)
+    private static final Map<String, AtlasRegion> regions = new ConcurrentHashMap<>();
+    private static final Map<String, Animation<TextureRegion>> animations = new ConcurrentHashMap<>();
     public static Texture whitePixel;
-    public static void load(){
-        load_objects();
-        loadPlayerAnimations();
-        loadOnWallBar();
-        loadInputIcons();
-    }
-    public static void load_objects() {
-        textures.put("pause", new Texture("pause.png"));
+
+    // 이미지 디코딩은 AssetManager의 백그라운드 스레드에서, GPU 업로드는 update() 호출 시 GL 스레드에서 한다
+    // 참조 수와 로드 대기열을 바꾸는 메서드는 synchronized (헤드리스 SimulationFarm은 여러 스레드에서 레벨을 로드하고,
+    // 그동안 다른 스레드의 월드가 get()으로 리전을 읽는다)
+    private static AssetManager manager;
+    private static boolean useAtlases;
+    private static List<TextureAtlas> atlases = new ArrayList<>();
+    private static Map<String, Integer> refCounts = new LinkedHashMap<>(); // 리전 키 → 참조 수 (공통 에셋 + 레벨)
+    private static Map<String, Integer> atlasRefCounts = new LinkedHashMap<>(); // 아틀라스 → 참조 중인 리전 키 수
+
+    // 키 → 에셋 경로 (확장자 제외, 아틀라스 리전 이름과 동일)
+    private static final Map<String, String> OBJECT_PATHS = new LinkedHashMap<>();
+    static {
+        OBJECT_PATHS.put("pause", "pause");
 
         // Objects
-        textures.put("block_planks", new Texture("objects/block_planks.png"));
-        textures.put("flag_red_a", new Texture("objects/flag_red_a.png"));
-        textures.put("sign", new Texture("objects/sign.png"));
-
-        // Sand
-        textures.put("sand", new Texture("objects/terrain_sand_block.png"));
-        textures.put("sand_bottom", new Texture("objects/terrain_sand_block_bottom.png"));
-        textures.put("sand_bottom_left", new Texture("objects/terrain_sand_block_bottom_left.png"));
-        textures.put("sand_bottom_right", new Texture("objects/terrain_sand_block_bottom_right.png"));
-        textures.put("sand_center", new Texture("objects/terrain_sand_block_center.png"));
-        textures.put("sand_left", new Texture("objects/terrain_sand_block_left.png"));
-        textures.put("sand_right", new Texture("objects/terrain_sand_block_right.png"));
-        textures.put("sand_top", new Texture("objects/terrain_sand_block_top.png"));
-        textures.put("sand_top_left", new Texture("objects/terrain_sand_block_top_left.png"));
-        textures.put("sand_top_right", new Texture("objects/terrain_sand_block_top_right.png"));
-        textures.put("sand_horizontal_left", new Texture("objects/terrain_sand_horizontal_left.png"));
-        textures.put("sand_horizontal_middle", new Texture("objects/terrain_sand_horizontal_middle.png"));
-        textures.put("sand_horizontal_right", new Texture("objects/terrain_sand_horizontal_right.png"));
-
-        // Stone
-        textures.put("stone", new Texture("objects/terrain_stone_block.png"));
-        textures.put("stone_bottom", new Texture("objects/terrain_stone_block_bottom.png"));
-        textures.put("stone_bottom_left", new Texture("objects/terrain_stone_block_bottom_left.png"));
-        textures.put("stone_bottom_right", new Texture("objects/terrain_stone_block_bottom_right.png"));
-        textures.put("stone_center", new Texture("objects/terrain_stone_block_center.png"));
-        textures.put("stone_left", new Texture("objects/terrain_stone_block_left.png"));
-        textures.put("stone_right", new Texture("objects/terrain_stone_block_right.png"));
-        textures.put("stone_top", new Texture("objects/terrain_stone_block_top.png"));
-        textures.put("stone_top_left", new Texture("objects/terrain_stone_block_top_left.png"));
-        textures.put("stone_top_right", new Texture("objects/terrain_stone_block_top_right.png"));
-        textures.put("stone_horizontal_left", new Texture("objects/terrain_stone_horizontal_left.png"));
-        textures.put("stone_horizontal_middle", new Texture("objects/terrain_stone_horizontal_middle.png"));
-        textures.put("stone_horizontal_right", new Texture("objects/terrain_stone_horizontal_right.png"));
+        OBJECT_PATHS.put("block_planks", "objects/block_planks");
+        OBJECT_PATHS.put("flag_red_a", "objects/flag_red_a");
+        OBJECT_PATHS.put("sign", "objects/sign");
+
+        // Sand, Stone
+        for (String material : new String[]{"sand", "stone"}) {
+            OBJECT_PATHS.put(material, "objects/terrain_" + material + "_block");
+            for (String part : new String[]{"bottom", "bottom_left", "bottom_right", "center", "left", "right", "top", "top_left", "top_right"}) {
+                OBJECT_PATHS.put(material + "_" + part, "objects/terrain_" + material + "_block_" + part);
+            }
+            for (String part : new String[]{"horizontal_left", "horizontal_middle", "horizontal_right"}) {
+                OBJECT_PATHS.put(material + "_" + part, "objects/terrain_" + material + "_" + part);
+            }
+        }
     }
 
-    private static void loadPlayerAnimations() {
-        FileHandle dir = Gdx.files.internal("player");
+    /** 모든 에셋을 즉시 로드한다 (헤드리스 실행, 벤치마크용) */
+    public static synchronized void load(){
+        queueCommon();
+        for (String key : OBJECT_PATHS.keySet()) {
+            acquire(key);
+        }
+        for (String name : listFolder("inputs")) {
+            acquire(name);
+        }
+        finishLoading();
+    }
 
-        if (!dir.exists() || !dir.isDirectory()) {
-            System.out.println("[Assets] player 폴더가 없습니다.");
-            return;
+    /**
+     * 어느 레벨에서나 쓰는 에셋(아틀라스 또는 플레이어 시트, 일시정지 아이콘)을 로드 대기열에 넣는다.
+     * 실제 로드는 update() 또는 finishLoading()에서 진행된다.
+     */
+    public static synchronized void queueCommon() {
+        useAtlases = true;
+        for (String path : ATLAS_FILES) {
+            if (!Gdx.files.internal(path).exists()) useAtlases = false;
         }
+        if (useAtlases) {
+            for (String path : COMMON_ATLASES) {
+                acquireAtlas(path);
+            }
+        } else {
+            System.out.println("[Assets] 아틀라스가 없어 PNG를 개별 로드합니다. (gradlew packTextures)");
+            for (String name : listFolder("player")) {
+                manager().load("player/" + name + ".png", Texture.class);
+            }
+        }
+        acquire("pause");
+    }
 
-        for (FileHandle file : dir.list("png")) {
-            Texture sheet = new Texture(file);
-            String name = file.nameWithoutExtension();
+    /**
+     * 레벨이 참조하는 Sprite의 참조 수를 올리고, 처음 참조되는 것은 로드 대기열에 넣는다.
+     * 실제 로드는 update() 또는 finishLoading()에서 진행된다.
+     */
+    public static synchronized void acquireLevel(LevelData data) {
+        for (String key : data.getSpriteKeys()) {
+            acquire(key);
+        }
+    }
+
+    /**
+     * 레벨이 참조하던 Sprite의 참조 수를 내리고, 더 이상 아무도 쓰지 않는 텍스처(아틀라스 모드에서는 아틀라스)는 내린다.
+     * 다음 레벨의 acquireLevel 뒤에 호출해야 두 레벨이 함께 쓰는 텍스처가 다시 로드되지 않는다.
+     */
+    public static synchronized void releaseLevel(LevelData data) {
+        int unloaded = 0;
+        for (String key : data.getSpriteKeys()) {
+            if (release(key)) unloaded++;
+        }
+        if (unloaded > 0) System.out.println("[Assets] Unloaded " + unloaded + (useAtlases ? " atlases" : " textures"));
+    }
+
+    /**
+     * 로드를 진행한다. 매 프레임 렌더 스레드에서 호출
+     * @param millis 이번 프레임에 쓸 최대 시간 (GPU 업로드 포함)
+     * @return 대기열이 모두 끝났으면 true
+     */
+    public static synchronized boolean update(int millis) {
+        if (!manager().update(millis)) return false;
+        collectLoaded();
+        return true;
+    }
+
+    public static synchronized void finishLoading() {
+        manager().finishLoading();
+        collectLoaded();
+    }
+
+    /** 0~1 사이 진행률 */
+    public static float getProgress() {
+        return manager == null ? 1f : manager.getProgress();
+    }
+
+    private static AssetManager manager() {
+        if (manager == null) manager = new AssetManager(new InternalFileHandleResolver());
+        return manager;
+    }
+
+    private static void acquire(String key) {
+        if (key == null) return;
+        Integer count = refCounts.get(key);
+        refCounts.put(key, count == null ? 1 : count + 1);
+        if (count != null) return;
+        if (useAtlases) acquireAtlas(atlasOf(key));
+        else manager().load(pathOf(key) + ".png", Texture.class);
+    }
 
-            int frameHeight = sheet.getHeight();
+    private static void acquireAtlas(String path) {
+        Integer count = atlasRefCounts.get(path);
+        atlasRefCounts.put(path, count == null ? 1 : count + 1);
+        if (count == null) manager().load(path, TextureAtlas.class);
+    }
+
+    // 참조 수가 0이 되어 텍스처나 아틀라스를 내렸으면 true
+    private static boolean release(String key) {
+        Integer count = refCounts.get(key);
+        if (count == null) return false;
+        if (count > 1) {
+            refCounts.put(key, count - 1);
+            return false;
+        }
+        refCounts.remove(key);
+        regions.remove(key);
+        if (useAtlases) return releaseAtlas(atlasOf(key));
+        String file = pathOf(key) + ".png";
+        if (manager == null || !manager.contains(file)) return false;
+        manager.unload(file);
+        return true;
+    }
+
+    // 그룹의 마지막 리전이 풀리면 아틀라스(페이지 텍스처 포함)를 내린다
+    private static boolean releaseAtlas(String path) {
+        Integer count = atlasRefCounts.get(path);
+        if (count == null) return false;
+        if (count > 1) {
+            atlasRefCounts.put(path, count - 1);
+            return false;
+        }
+        atlasRefCounts.remove(path);
+        if (manager == null || !manager.contains(path)) return false;
+        manager.unload(path);
+        return true;
+    }
+
+    // 리전 키 → 그 리전이 들어 있는 아틀라스 (build.gradle packTextures의 그룹과 같아야 한다)
+    static String atlasOf(String key) {
+        String path = pathOf(key);
+        if (path.startsWith("inputs/")) return "atlas/inputs.atlas";
+        if (path.startsWith("objects/terrain_sand")) return "atlas/sand.atlas";
+        if (path.startsWith("objects/terrain_stone")) return "atlas/stone.atlas";
+        if (path.startsWith("objects/")) return "atlas/objects.atlas";
+        return "atlas/common.atlas";
+    }
+
+    // 키 → 에셋 경로 (OBJECT_PATHS에 없으면 입력 아이콘)
+    static String pathOf(String key) {
+        String path = OBJECT_PATHS.get(key);
+        return path != null ? path : "inputs/" + key;
+    }
+
+    // 로드가 끝난 에셋으로 리전과 애니메이션을 만든다
+    private static void collectLoaded() {
+        atlases.clear();
+        for (String path : ATLAS_FILES) {
+            if (manager.isLoaded(path, TextureAtlas.class)) atlases.add(manager.get(path, TextureAtlas.class));
+        }
+        for (String key : refCounts.keySet()) {
+            if (!regions.containsKey(key)) regions.put(key, findRegion(pathOf(key)));
+        }
+        if (animations.isEmpty()) loadPlayerAnimations();
+        if (whitePixel == null) loadOnWallBar();
+    }
+
+    private static void loadPlayerAnimations() {
+        for (String name : listFolder("player")) {
+            AtlasRegion sheet = findRegion("player/" + name);
+
+            int frameHeight = sheet.getRegionHeight();
             int frameWidth = frameHeight;
-            int frameCount = sheet.getWidth() / frameWidth;
+            int frameCount = sheet.getRegionWidth() / frameWidth;
 
-            TextureRegion[][] tmp = TextureRegion.split(sheet, frameWidth, frameHeight);
+            TextureRegion[][] tmp = sheet.split(frameWidth, frameHeight);
             TextureRegion[] frames = new TextureRegion[frameCount];
             for (int i = 0; i < frameCount; i++) {
                 frames[i] = tmp[0][i];
@@ -106,34 +256,69 @@ public class Assets {
         pixmap.dispose();
     }
 
-    private static void loadInputIcons(){
-        FileHandle dir = Gdx.files.internal("inputs");
-        if (!dir.exists() || !dir.isDirectory()) {
-            System.out.println("[Assets] inputs 폴더가 없습니다.");
-            return;
+    // 아틀라스에서 리전을 찾고, 없으면 PNG 텍스처를 사용 (대기열에 없던 PNG는 여기서 바로 로드)
+    private static AtlasRegion findRegion(String path) {
+        for (TextureAtlas atlas : atlases) {
+            AtlasRegion region = atlas.findRegion(path);
+            if (region != null) return region;
         }
 
-        for (FileHandle file : dir.list("png")) {
-            String name = file.nameWithoutExtension();
+        String file = path + ".png";
+        if (!manager.isLoaded(file, Texture.class)) {
+            manager.load(file, Texture.class);
+            manager.finishLoadingAsset(file);
+        }
+        Texture texture = manager.get(file, Texture.class);
+        AtlasRegion region = new AtlasRegion(texture, 0, 0, texture.getWidth(), texture.getHeight());
+        region.name = path;
+        return region;
+    }
+
+    // 폴더에 속한 에셋 이름 목록 (아틀라스가 있으면 리전 이름, 없으면 파일 목록)
+    // 아틀라스는 올라와 있지 않을 수 있으므로 텍스처 없이 .atlas 파일의 목록만 읽는다
+    private static List<String> listFolder(String folder) {
+        List<String> names = new ArrayList<>();
+        String prefix = folder + "/";
+
+        if (useAtlases) {
+            for (String path : ATLAS_FILES) {
+                FileHandle file = Gdx.files.internal(path);
+                TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(file, file.parent(), false);
+                for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                    if (region.name.startsWith(prefix)) names.add(region.name.substring(prefix.length()));
+                }
+            }
+            return names;
+        }
 
-            textures.put(name, new Texture(file));
-            //System.out.println("[Assets] Loaded icon: " + name + " " + file);
+        FileHandle dir = Gdx.files.internal(folder);
+        if (!dir.exists() || !dir.isDirectory()) {
+            System.out.println("[Assets] " + folder + " 폴더가 없습니다.");
+            return names;
+        }
+        for (FileHandle file : dir.list("png")) {
+            names.add(file.nameWithoutExtension());
         }
+        return names;
     }
 
-    public static Texture get(String name) {
-        return textures.get(name);
+    public static AtlasRegion get(String name) {
+        return regions.get(name);
     }
 
-    public static void dispose() {
-        for (Texture tex : textures.values()) {
-            tex.dispose();
-        }
+    public static synchronized void dispose() {
+        if (manager != null) manager.dispose(); // 아틀라스와 텍스처는 AssetManager가 정리
+        manager = null;
+        atlases.clear();
+        refCounts.clear();
+        atlasRefCounts.clear();
+        regions.clear();
+        animations.clear();
+        if (whitePixel != null) whitePixel.dispose();
+        whitePixel = null;
     }
 
     public static Animation<TextureRegion> getAnimation(String name) {
         return animations.get(name);
     }
 }
-
-
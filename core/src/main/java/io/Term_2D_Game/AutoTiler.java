@@ -0,0 +1,80 @@
+package io.Term_2D_Game;
+
+import java.util.Collection;
+
+/**
+ * 이웃 칸 점유(상, 우, 하, 좌 4비트 마스크)로 지형 타일의 가장자리/모서리 Sprite를 고른다.
+ * 레벨 파일에서 sprite를 생략한 지형 칸은 TileMap.load가 이 규칙으로 채운다 (sprite가 있으면 그대로 사용).
+ *
+ * 다른 재질과 맞닿은 경우: 아래 칸은 재질과 관계없이 이어진 것으로 보고, 위 칸은 끊긴 것으로 본다 (윗면을 보임).
+ * 좌우는 모래가 돌 쪽으로만 이어진다 (돌 벽이 모래 앞에 서 있는 것처럼 보이도록).
+ * 레벨 범위 밖의 칸은 채워진 것으로 본다 (화면 가장자리에 테두리가 생기지 않도록).
+ */
+public class AutoTiler {
+    // 이웃 비트
+    public static final int UP = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int DOWN = 1 << 2;
+    public static final int LEFT = 1 << 3;
+
+    private static final String[] MATERIAL_NAMES = {null, "sand", "stone"}; // TileMap 재질 순서
+
+    // 마스크별 조각 이름 (세로 한 줄짜리 조각은 없으므로 가까운 조각을 쓴다)
+    private static final String[] PIECES = new String[16];
+    static {
+        PIECES[0] = "";
+        PIECES[RIGHT] = "_horizontal_left";
+        PIECES[LEFT] = "_horizontal_right";
+        PIECES[LEFT | RIGHT] = "_horizontal_middle";
+        PIECES[DOWN] = "";
+        PIECES[DOWN | RIGHT] = "_top_left";
+        PIECES[DOWN | LEFT] = "_top_right";
+        PIECES[DOWN | LEFT | RIGHT] = "_top";
+        PIECES[UP] = "";
+        PIECES[UP | RIGHT] = "_bottom_left";
+        PIECES[UP | LEFT] = "_bottom_right";
+        PIECES[UP | LEFT | RIGHT] = "_bottom";
+        PIECES[UP | DOWN] = "_center";
+        PIECES[UP | DOWN | RIGHT] = "_left";
+        PIECES[UP | DOWN | LEFT] = "_right";
+        PIECES[UP | DOWN | LEFT | RIGHT] = "_center";
+    }
+
+    // [재질][마스크] → Sprite 키 (매 칸 문자열을 만들지 않도록 미리 조합)
+    private static final String[][] NAMES = new String[TileMap.MATERIAL_COUNT][16];
+    static {
+        for (int material = 1; material < TileMap.MATERIAL_COUNT; material++) {
+            for (int mask = 0; mask < 16; mask++) {
+                NAMES[material][mask] = MATERIAL_NAMES[material] + PIECES[mask];
+            }
+        }
+    }
+
+    /** 재질과 이웃 마스크에 맞는 Sprite 키 */
+    public static String spriteName(byte material, int mask) {
+        return NAMES[material][mask];
+    }
+
+    /**
+     * 이웃 칸이 이 칸과 이어져 있는지
+     * @param material 이 칸의 재질
+     * @param neighbor 이웃 칸의 재질 (EMPTY면 빈 칸)
+     * @param direction UP, RIGHT, DOWN, LEFT 중 하나
+     */
+    public static boolean connects(byte material, byte neighbor, int direction) {
+        if (neighbor == TileMap.EMPTY) return false;
+        if (neighbor == material) return true;
+        switch (direction) {
+            case DOWN: return true;
+            case UP: return false;
+            default: return material == TileMap.SAND && neighbor == TileMap.STONE;
+        }
+    }
+
+    /** 재질의 자동 타일 조각 키를 모두 넣는다 (레벨 에셋 로드용) */
+    public static void addPieceNames(byte material, Collection<String> out) {
+        for (int mask = 0; mask < 16; mask++) {
+            out.add(NAMES[material][mask]);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.Term_2D_Game;
 
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -14,6 +15,7 @@ public class CameraManager {
     private GameWorld gameWorld;
     private SpriteBatch batch;
     private Vector2 cameraPosition;
+    private Rectangle viewBounds = new Rectangle();
     public CameraManager(GameWorld gameWorld, SpriteBatch batch){
         camera = new OrthographicCamera();
         camera.setToOrtho(false, CAMERA_WIDTH, CAMERA_HEIGHT);
@@ -24,7 +26,7 @@ public class CameraManager {
     }
 
     public void updateCamera(float delta){
-        Vector2 targetPos = gameWorld.getPlayer().getBody().getPosition();
+        Vector2 targetPos = gameWorld.getPlayer().getRenderPosition(); // 보간된 위치를 따라가야 떨림이 없다
         Vector2 levelSize = gameWorld.level.getLevelSize();
 
         // Box2D 좌표 → 화면 좌표 변환
@@ -50,4 +52,11 @@ public class CameraManager {
     public OrthographicCamera getCamera(){
         return this.camera;
     }
+
+    // 현재 카메라에 보이는 월드 영역 (픽셀)
+    public Rectangle getViewBounds(){
+        float width = camera.viewportWidth * camera.zoom;
+        float height = camera.viewportHeight * camera.zoom;
+        return viewBounds.set(camera.position.x - width / 2f, camera.position.y - height / 2f, width, height);
+    }
 }
@@ -0,0 +1,68 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.physics.box2d.Filter;
+
+/**
+ * Box2D 충돌 카테고리 비트와 마스크.
+ * Fixture마다 자기 카테고리 비트 하나를 가지고, 마스크에 없는 조합은 broadphase에서 걸러져 ContactListener까지 오지 않는다.
+ * (예: 벽 센서는 Stone만, 공격 센서는 Box만, Flag/Sign은 바닥 센서만 감지)
+ */
+public final class Collision {
+    // 플레이어
+    public static final short PLAYER = 1;
+    public static final short FOOT_SENSOR = 1 << 1;
+    public static final short LEFT_WALL_SENSOR = 1 << 2;
+    public static final short RIGHT_WALL_SENSOR = 1 << 3;
+    public static final short ATTACK_SENSOR = 1 << 4;
+
+    // 블록
+    public static final short SAND = 1 << 5;
+    public static final short STONE = 1 << 6;
+    public static final short BOX = 1 << 7;
+    public static final short FLAG = 1 << 8;
+    public static final short SIGN = 1 << 9;
+
+    /** 카테고리 종류 수 (인덱스 테이블 크기) */
+    public static final int COUNT = 10;
+
+    // 묶음
+    public static final short PLAYER_SENSORS = FOOT_SENSOR | LEFT_WALL_SENSOR | RIGHT_WALL_SENSOR | ATTACK_SENSOR;
+    public static final short GROUND = SAND | STONE | BOX;   // 밟을 수 있는 블록
+    public static final short CLIMBABLE = STONE;             // 벽 타기 가능한 블록
+    public static final short BREAKABLE = BOX;               // 공격으로 부술 수 있는 블록
+
+    // 카테고리 인덱스 -> 충돌 마스크
+    private static final short[] MASKS = new short[COUNT];
+    static {
+        MASKS[index(PLAYER)] = GROUND;
+        MASKS[index(FOOT_SENSOR)] = GROUND | FLAG | SIGN;
+        MASKS[index(LEFT_WALL_SENSOR)] = CLIMBABLE;
+        MASKS[index(RIGHT_WALL_SENSOR)] = CLIMBABLE;
+        MASKS[index(ATTACK_SENSOR)] = BREAKABLE;
+        // 지형과 상자는 모두 정적 Body라 Box2D가 서로의 접촉을 만들지 않으므로 마스크에 넣지 않는다
+        MASKS[index(SAND)] = PLAYER | FOOT_SENSOR;
+        MASKS[index(STONE)] = PLAYER | FOOT_SENSOR | LEFT_WALL_SENSOR | RIGHT_WALL_SENSOR;
+        MASKS[index(BOX)] = PLAYER | FOOT_SENSOR | ATTACK_SENSOR;
+        MASKS[index(FLAG)] = FOOT_SENSOR;
+        MASKS[index(SIGN)] = FOOT_SENSOR;
+    }
+
+    private Collision() {
+    }
+
+    /** 카테고리 비트 하나를 0부터 시작하는 인덱스로 바꾼다 */
+    public static int index(short category) {
+        return Integer.numberOfTrailingZeros(category & 0xFFFF);
+    }
+
+    public static short maskOf(short category) {
+        return MASKS[index(category)];
+    }
+
+    /** 카테고리와 기본 마스크를 Filter에 기록한다 (FixtureDef.filter 또는 새 Filter) */
+    public static Filter apply(Filter filter, short category) {
+        filter.categoryBits = category;
+        filter.maskBits = maskOf(category);
+        return filter;
+    }
+}
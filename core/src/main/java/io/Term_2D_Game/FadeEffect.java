@@ -3,15 +3,54 @@ package io.Term_2D_Game;
 import static io.Term_2D_Game.GameWorld.PPM;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * 원형 페이드 아웃, 전체 페이드 인, 일시정지 어둡게 하기를 전체 화면 사각형 하나와 셰이더 한 번으로 그린다.
+ * 원 밖을 가리는 데 스텐실 버퍼를 쓰지 않으므로 백 버퍼에 스텐실이 필요 없다.
+ */
+public class FadeEffect implements Disposable {
+    // 화면 좌표(gl_FragCoord)로 원 안/밖을 판단하고, 검은색 레이어 여러 장을 겹친 것과 같은 알파를 낸다
+    private static final String VERTEX_SHADER =
+        "attribute vec2 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "void main() {\n" +
+        "    gl_Position = vec4(" + ShaderProgram.POSITION_ATTRIBUTE + ", 0.0, 1.0);\n" +
+        "}\n";
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "#ifdef GL_FRAGMENT_PRECISION_HIGH\n" +
+        "precision highp float;\n" +
+        "#else\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "#endif\n" +
+        "uniform vec2 u_center;\n" +    // 원 중심 (화면 픽셀)
+        "uniform float u_radius;\n" +   // 원 반지름 (화면 픽셀)
+        "uniform float u_outside;\n" +  // 원 밖 알파 (페이드 아웃 중 1)
+        "uniform float u_fade;\n" +     // 전체 페이드 알파
+        "uniform float u_dim;\n" +      // 일시정지 어둡게
+        "void main() {\n" +
+        "    float d = distance(gl_FragCoord.xy, u_center);\n" +
+        "    float a = u_outside * smoothstep(u_radius - 1.0, u_radius, d);\n" +
+        "    a = 1.0 - (1.0 - a) * (1.0 - u_fade) * (1.0 - u_dim);\n" +
+        "    gl_FragColor = vec4(0.0, 0.0, 0.0, a);\n" +
+        "}\n";
+    private static final float PAUSE_DIM = 0.5f;
+
+    private final ShaderProgram shader;
+    private final Mesh quad;
+    private final Vector3 projected = new Vector3();
+    private final Vector3 edge = new Vector3();
 
-public class FadeEffect {
     private float radius;
     private float maxRadius;
     private float minRadius;
@@ -34,6 +73,13 @@ public class FadeEffect {
         this.active = false;
         this.pauseOverlay = false;
         this.speedFlag = false;
+
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) throw new GdxRuntimeException("FadeEffect 셰이더 컴파일 실패: " + shader.getLog());
+
+        // 화면 전체를 덮는 사각형 (클립 좌표)
+        quad = new Mesh(true, 4, 0, new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE));
+        quad.setVertices(new float[]{-1f, -1f, 1f, -1f, 1f, 1f, -1f, 1f});
     }
 
     public void startFadeOut() {
@@ -88,69 +134,38 @@ public class FadeEffect {
         }
     }
 
-    public void render(ShapeRenderer shapeRenderer, Vector2 playerPos, OrthographicCamera camera) {
-        shapeRenderer.setProjectionMatrix(camera.combined);
-
-        if (fadingOut) {
-            Gdx.gl.glEnable(GL20.GL_STENCIL_TEST);
-
-            Gdx.gl.glStencilMask(0xFF);
-            Gdx.gl.glClearStencil(0);
-            Gdx.gl.glClear(GL20.GL_STENCIL_BUFFER_BIT);
-
-            Gdx.gl.glStencilFunc(GL20.GL_ALWAYS, 1, 0xFF); // 모든 픽셀 통과
-            Gdx.gl.glStencilOp(GL20.GL_REPLACE, GL20.GL_REPLACE, GL20.GL_REPLACE); // 스텐실 값 1로 설정
-
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            Gdx.gl.glColorMask(false, false, false, false);
-            shapeRenderer.setColor(0f, 0f, 0f, 0f);
-            shapeRenderer.circle(playerPos.x * PPM, playerPos.y * PPM, radius); // 원형 마스크
-            shapeRenderer.end();
-
-            Gdx.gl.glStencilMask(0xFF);
-            Gdx.gl.glStencilFunc(GL20.GL_NOTEQUAL, 1, 0xFF); // 스텐실 값이 1이 아닌 영역만 그리기
-            Gdx.gl.glStencilOp(GL20.GL_KEEP, GL20.GL_KEEP, GL20.GL_KEEP); // 스텐실 값 유지
-
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-            Gdx.gl.glColorMask(true, true, true, true);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0f, 0f, 0f, 1f); // alpha = 0~1, 어둡게
-            shapeRenderer.rect(
-                camera.position.x - Gdx.graphics.getWidth() / 2f,
-                camera.position.y - Gdx.graphics.getHeight() / 2f,
-                Gdx.graphics.getWidth(),
-                Gdx.graphics.getHeight());
-            shapeRenderer.end();
-
-            Gdx.gl.glDisable(GL20.GL_BLEND);
-            Gdx.gl.glDisable(GL20.GL_STENCIL_TEST);
-
-        } else if (fadingIn) {
-            // 전체 페이드 인
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0f, 0f, 0f, alpha);
-            shapeRenderer.rect(
-                camera.position.x - Gdx.graphics.getWidth() / 2f,
-                camera.position.y - Gdx.graphics.getHeight() / 2f,
-                Gdx.graphics.getWidth(),
-                Gdx.graphics.getHeight());
-            shapeRenderer.end();
-            Gdx.gl.glDisable(GL20.GL_BLEND);
-        }
+    /**
+     * 페이드와 일시정지 오버레이를 한 번의 draw call로 그린다. 그릴 것이 없으면 아무것도 하지 않는다.
+     * @param playerPos 플레이어 위치 (미터, 원 중심)
+     * @param camera 월드 카메라 (원 중심과 반지름을 화면 픽셀로 바꾸는 데 사용)
+     */
+    public void render(Vector2 playerPos, OrthographicCamera camera) {
+        float outside = fadingOut ? 1f : 0f;
+        float fade = fadingIn ? alpha : 0f;
+        float dim = pauseOverlay ? PAUSE_DIM : 0f;
+        if (outside == 0f && fade == 0f && dim == 0f) return;
+
+        // 월드 좌표 → 화면 픽셀 (gl_FragCoord와 같은 백 버퍼 좌표)
+        int width = Gdx.graphics.getBackBufferWidth();
+        int height = Gdx.graphics.getBackBufferHeight();
+        camera.project(projected.set(playerPos.x * PPM, playerPos.y * PPM, 0f), 0, 0, width, height);
+        camera.project(edge.set(playerPos.x * PPM + radius, playerPos.y * PPM, 0f), 0, 0, width, height);
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shader.bind();
+        shader.setUniformf("u_center", projected.x, projected.y);
+        shader.setUniformf("u_radius", edge.x - projected.x);
+        shader.setUniformf("u_outside", outside);
+        shader.setUniformf("u_fade", fade);
+        shader.setUniformf("u_dim", dim);
+        quad.render(shader, GL20.GL_TRIANGLE_FAN);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
 
-        if (pauseOverlay) {
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(0f, 0f, 0f, 0.5f); // 원하는 투명도
-            shapeRenderer.rect(
-                camera.position.x - Gdx.graphics.getWidth() / 2f,
-                camera.position.y - Gdx.graphics.getHeight() / 2f,
-                Gdx.graphics.getWidth(),
-                Gdx.graphics.getHeight());
-            shapeRenderer.end();
-            Gdx.gl.glDisable(GL20.GL_BLEND);
-        }
+    @Override
+    public void dispose() {
+        shader.dispose();
+        quad.dispose();
     }
 }
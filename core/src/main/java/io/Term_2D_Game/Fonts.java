@@ -0,0 +1,130 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 게임 전체에서 공유하는 폰트 캐시.
+ * (크기, 테두리, 그림자, 문자셋) 조합마다 FreeType 래스터화를 한 번만 하고,
+ * 새로 필요한 글자는 incremental 모드로 기존 글리프 아틀라스에 추가한다.
+ * 사용된 글자 목록은 로컬 파일에 저장해 다음 실행 때 한 번에 미리 생성한다.
+ * 헤드리스 병렬 시뮬레이션에서 여러 월드가 동시에 표지판을 만들 수 있으므로 synchronized로 접근한다.
+ */
+public class Fonts {
+    private static final String FONT_PATH = "fonts/Galmuri14.ttf";
+    private static final String CACHE_DIR = "cache/fonts/";
+
+    // 기본 스타일 (흰 글자 + 검은 테두리 + 반투명 그림자)
+    public static final float DEFAULT_BORDER = 2f;
+    public static final int DEFAULT_SHADOW = 2;
+
+    private static FreeTypeFontGenerator generator;
+    private static final Map<String, BitmapFont> fonts = new HashMap<>();
+
+    /** 기본 스타일 폰트 */
+    public static BitmapFont get(int size) {
+        return get(size, DEFAULT_BORDER, DEFAULT_SHADOW, FreeTypeFontGenerator.DEFAULT_CHARS);
+    }
+
+    /**
+     * @param size 폰트 크기
+     * @param borderWidth 테두리 두께
+     * @param shadowOffset 그림자 오프셋 (X, Y 동일)
+     * @param characters 처음에 생성할 문자셋 (이후 글자는 필요할 때 추가됨)
+     */
+    public static synchronized BitmapFont get(int size, float borderWidth, int shadowOffset, String characters) {
+        String key = size + "_" + borderWidth + "_" + shadowOffset + "_" + Integer.toHexString(characters.hashCode());
+        BitmapFont font = fonts.get(key);
+        if (font != null) return font;
+
+        if (!Gdx.files.internal(FONT_PATH).exists()) {
+            // 폰트 파일이 없는 환경 (헤드리스 실행 등)에서는 libGDX 기본 폰트로 대체
+            System.out.println("[Fonts] " + FONT_PATH + " 파일이 없어 기본 폰트를 사용합니다.");
+            font = new BitmapFont();
+            fonts.put(key, font);
+            return font;
+        }
+
+        if (generator == null) {
+            generator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_PATH));
+        }
+
+        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
+        parameter.size = size;
+        parameter.color = Color.WHITE;
+        parameter.borderWidth = borderWidth;
+        parameter.borderColor = Color.BLACK;
+        parameter.shadowOffsetX = shadowOffset;
+        parameter.shadowOffsetY = shadowOffset;
+        parameter.shadowColor = new Color(0, 0, 0, 0.5f);
+        parameter.characters = characters + loadCachedCharacters(key);
+        parameter.incremental = true; // 없는 글자는 그릴 때 아틀라스에 추가
+
+        font = generator.generateFont(parameter);
+        fonts.put(key, font);
+        System.out.println("[Fonts] Generated font: " + key);
+        return font;
+    }
+
+    /**
+     * 문자열에 필요한 글리프를 미리 생성한다 (첫 프레임에 래스터화가 몰리지 않도록 로딩 중 호출)
+     */
+    public static synchronized void addGlyphs(BitmapFont font, String text) {
+        if (text == null) return;
+        BitmapFontData data = font.getData();
+        for (int i = 0; i < text.length(); i++) {
+            data.getGlyph(text.charAt(i));
+        }
+    }
+
+    public static synchronized void dispose() {
+        for (Map.Entry<String, BitmapFont> entry : fonts.entrySet()) {
+            saveCachedCharacters(entry.getKey(), entry.getValue());
+            entry.getValue().dispose();
+        }
+        fonts.clear();
+
+        if (generator != null) {
+            generator.dispose();
+            generator = null;
+        }
+    }
+
+    // 이전 실행에서 사용된 글자 목록
+    private static String loadCachedCharacters(String key) {
+        if (!Gdx.files.isLocalStorageAvailable()) return "";
+        FileHandle file = Gdx.files.local(CACHE_DIR + key + ".txt");
+        return file.exists() ? file.readString("UTF-8") : "";
+    }
+
+    private static void saveCachedCharacters(String key, BitmapFont font) {
+        if (!Gdx.files.isLocalStorageAvailable()) return;
+        if (!(font.getData() instanceof FreeTypeBitmapFontData)) return; // 대체 폰트
+
+        StringBuilder chars = new StringBuilder();
+        for (Glyph[] page : font.getData().glyphs) {
+            if (page == null) continue;
+            for (Glyph glyph : page) {
+                if (glyph == null) continue;
+                char ch = (char) glyph.id;
+                if (FreeTypeFontGenerator.DEFAULT_CHARS.indexOf(ch) < 0) chars.append(ch);
+            }
+        }
+
+        try {
+            Gdx.files.local(CACHE_DIR + key + ".txt").writeString(chars.toString(), false, "UTF-8");
+        } catch (Exception e) {
+            System.out.println("[Fonts] 글자 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+}
@@ -2,21 +2,33 @@ package io.Term_2D_Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ReflectionPool;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
+import io.Term_2D_Game.Input.InputSource;
+import io.Term_2D_Game.Input.KeyboardInput;
+import io.Term_2D_Game.Input.PlayerInput;
 import io.Term_2D_Game.Objects.BlockObject;
 import io.Term_2D_Game.Objects.BoxObject;
+import io.Term_2D_Game.Player.AttackEffect;
+import io.Term_2D_Game.Player.DashEffect;
 import io.Term_2D_Game.Player.Player;
 import io.Term_2D_Game.Player.PlayerContactListener;
 import io.Term_2D_Game.Player.PlayerEffect;
+import io.Term_2D_Game.Player.PlayerTuning;
 
 public class GameWorld {
 
@@ -26,12 +38,17 @@ public class GameWorld {
     public static final float PPM = 100f; // 픽셀 → 미터 변환 상수
     public final float WORLD_GRAVITY = -9.8f;
     private float accumulator = 0f;
-    private final float TIME_STEP = 1/60f;
+    public static final float TIME_STEP = 1/60f;
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+    private int maxStepsPerFrame = DEFAULT_MAX_STEPS_PER_FRAME;
+    private float alpha = 1f; // 렌더 보간 비율
+    private long stepNanos = 0; // 마지막 update에서 box2dWorld.step에 쓴 시간
     public Player player;
 
     // 레벨 관련
     public Level level;
     public String currentLevel;
+    private String loadedLevel; // 현재 월드에 실제로 생성된 레벨
     private float fadeEffectTimer = 0f;
     private final float FADE_EFFECT_DURATION = 2.0f;
     private boolean isEnded;
@@ -41,24 +58,60 @@ public class GameWorld {
 
     // 이펙트 관리
     private List<PlayerEffect> playerEffects = new ArrayList<>();
+    // 이펙트 종류별 풀 (월드마다 따로 둔다. 전역 Pools는 스레드 안전하지 않아 여러 월드를 동시에 돌릴 수 없다)
+    private final ObjectMap<Class<?>, Pool<? extends PlayerEffect>> effectPools = new ObjectMap<>();
+    // 스냅샷에 쓰는 이펙트 종류 번호
+    private static final byte EFFECT_DASH = 0;
+    private static final byte EFFECT_ATTACK = 1;
 
     private List<Icon> inputIcons = new ArrayList<>();
 
+    // 플레이어 입력 (기본은 키보드, 헤드리스 실행 시 스크립트로 교체)
+    private PlayerInput input = new PlayerInput(new KeyboardInput());
+
+    // 정적 블록 렌더 캐시
+    private TerrainRenderCache terrainCache = new TerrainRenderCache();
+
+    // 화면 컬링
+    private List<BlockObject> visibleBlocks = new ArrayList<>();
+    private List<Icon> visibleIcons = new ArrayList<>();
+    private int drawnEntities = 0;
+    private int culledEntities = 0;
+
     public GameWorld() {
+        this("level_1");
+    }
+
+    /**
+     * @param startLevel 처음 로드할 레벨 이름
+     */
+    public GameWorld(String startLevel) {
+        this(startLevel, new PlayerTuning());
+    }
+
+    /**
+     * @param startLevel 처음 로드할 레벨 이름
+     * @param tuning 플레이어 이동 수치 (헤드리스 시뮬레이션에서 월드마다 다르게 줄 수 있다)
+     */
+    public GameWorld(String startLevel, PlayerTuning tuning) {
         box2dWorld = new World(new com.badlogic.gdx.math.Vector2(0, WORLD_GRAVITY), true);
         box2dWorld.setContactListener(new PlayerContactListener());
         level = new Level(this);
         isEnded = false;
-        currentLevel = "level_1";
+        currentLevel = startLevel;
         blocks = new ArrayList<>();
         loadLevel(currentLevel);
-        player = new Player(box2dWorld, level.getPlayerStartPosition(), this);
+        player = new Player(box2dWorld, level.getPlayerStartPosition(), this, tuning);
     }
 
     public void addBlock(BlockObject block) {
         blocks.add(block);
     }
 
+    TerrainRenderCache getTerrainCache() {
+        return terrainCache;
+    }
+
     public void loadLevel(String levelFileName){
         if (levelFileName != null) {
             Array<Body> bodies = new Array<>();
@@ -70,9 +123,12 @@ public class GameWorld {
 
             blocks.clear();
             inputIcons.clear();
+            terrainCache.clear();
             currentLevel = levelFileName;
 
-            level.loadLevel(currentLevel);
+            level.loadLevel(currentLevel); // 시작 위치 주변 청크를 바로 올린다
+            loadedLevel = currentLevel;
+            input.startLevel(currentLevel);
 
             if(player != null) {
                 player.respawn(level.getPlayerStartPosition(), box2dWorld);
@@ -81,16 +137,47 @@ public class GameWorld {
         }
     }
 
+    /**
+     * 프레임 시간만큼 고정 틱(TIME_STEP)을 진행하고, 남은 시간 비율로 렌더 위치를 보간한다.
+     * 한 프레임에 maxStepsPerFrame 틱까지만 따라잡고 나머지 밀린 시간은 버린다.
+     */
     public void update(float delta) {
+        stepNanos = 0;
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= TIME_STEP && steps < maxStepsPerFrame) {
+            accumulator -= TIME_STEP;
+            tick();
+            steps++;
+        }
+        if (accumulator >= TIME_STEP) {
+            accumulator %= TIME_STEP;
+        }
+
+        alpha = accumulator / TIME_STEP;
+        player.updateRenderPosition(alpha);
+    }
+
+    // 시뮬레이션 한 틱 (입력, 물리, 플레이어, 이펙트 모두 TIME_STEP 단위)
+    private void tick() {
+        player.savePreviousPosition();
+        for (int i = 0; i < blocks.size(); i++) {
+            BlockObject block = blocks.get(i);
+            if (!block.isStatic()) block.savePreviousPosition();
+        }
+
+        // 플레이어 주변 청크만 월드에 올린다
+        level.updateStreaming(player.getBody().getPosition().x * PPM);
+
         if(player.getIsCleared()){
-            updateFadeEffectTimer(delta);
+            updateFadeEffectTimer(TIME_STEP);
             clearedLevel();
             return;
         }
 
         if(isPlayerOutOfLevel()){
             player.setState(Player.State.DEAD);
-            updateFadeEffectTimer(delta);
+            updateFadeEffectTimer(TIME_STEP);
             if(fadeEffectTimer >= FADE_EFFECT_DURATION){
                 fadeEffectTimer = 0f;
                 restartCurrentLevel();
@@ -98,58 +185,193 @@ public class GameWorld {
         }
 
         // Box2D 물리 연산
-        accumulator += delta;
-        while(accumulator >= TIME_STEP) {
-            box2dWorld.step(TIME_STEP, 8, 3);
-            accumulator -= TIME_STEP;
-        }
+        player.beforeStep();
+        long stepStart = System.nanoTime();
+        box2dWorld.step(TIME_STEP, 8, 3);
+        stepNanos += System.nanoTime() - stepStart;
 
         for (BoxObject b : destroyQueue) {
-            b.destroy(box2dWorld, blocks); // Step 이후에 제거
+            level.destroyBox(b); // Step 이후에 끈다 (이미 부서졌으면 무시)
         }
-
-        // 블록 Sprite 위치 동기화
-        for (BlockObject block : blocks) {
-            block.syncSpriteToBody();
+        destroyQueue.clear();
+
+        input.update();
+        player.update(TIME_STEP);
+
+        // 이펙트 갱신 (끝난 이펙트는 풀로 반환)
+        for (int i = playerEffects.size() - 1; i >= 0; i--) {
+            PlayerEffect e = playerEffects.get(i);
+            e.update(TIME_STEP);
+            if (e.isFinished()) {
+                playerEffects.remove(i);
+                freeEffect(e);
+            }
         }
-        player.update(delta);
+    }
 
-        // 이펙트 갱신
-        for (Iterator<PlayerEffect> it = playerEffects.iterator(); it.hasNext();) {
-            PlayerEffect e = it.next();
-            e.update(delta);
-            if (e.isFinished()) it.remove();
-        }
+    // 정적 블록은 SpriteCache로 한 번에 그린다 (SpriteBatch begin/end 바깥에서 호출)
+    public void drawStatic(Matrix4 projection, Rectangle view) {
+        terrainCache.draw(projection, view);
     }
 
-    public void draw(SpriteBatch batch) {
-        for (Icon icon : inputIcons){
+    // 그리드에서 화면에 보이는 객체만 조회해서 그린다
+    public void draw(SpriteBatch batch, Rectangle view) {
+        visibleIcons.clear();
+        visibleBlocks.clear();
+        level.getIconGrid().query(view, visibleIcons);
+        level.getBlockGrid().query(view, visibleBlocks);
+
+        for (Icon icon : visibleIcons){
             icon.draw(batch);
         }
-        for (BlockObject block : blocks) {
-            block.draw(batch);
+        for (BlockObject block : visibleBlocks) {
+            if (block.isStatic()) block.drawOverlay(batch);
+            else {
+                block.syncSpriteToBody(alpha);
+                block.draw(batch);
+            }
         }
         player.draw(batch);
 
-        for (PlayerEffect e : playerEffects) {
+        int visibleEffects = 0;
+        for (int i = 0; i < playerEffects.size(); i++) {
+            PlayerEffect e = playerEffects.get(i);
+            if (!e.isVisible(view)) continue;
             e.render(batch);
+            visibleEffects++;
         }
+
+        drawnEntities = visibleIcons.size() + visibleBlocks.size() + visibleEffects;
+        culledEntities = inputIcons.size() + blocks.size() + playerEffects.size() - drawnEntities;
     }
 
     public void dispose() {
+        level.dispose();
         box2dWorld.dispose();
+        terrainCache.dispose();
     }
 
     public Player getPlayer(){
         return player;
     }
 
+    /**
+     * 한 프레임에 따라잡을 최대 틱 수. 느린 기기에서 밀린 틱이 계속 쌓이는 것을 막는다.
+     */
+    public void setMaxStepsPerFrame(int maxStepsPerFrame){
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    public PlayerInput getInput(){
+        return input;
+    }
+
+    public void setInputSource(InputSource source){
+        input.setSource(source);
+    }
+
+    // 마지막 프레임에 그린 엔티티(블록, 아이콘, 이펙트) 수 / 스트리밍된 엔티티 중 화면 밖이라 건너뛴 수
+    // 지형 타일은 청크 단위로 그리므로 getDrawnTerrainChunks/getCulledTerrainChunks로 따로 센다
+    public int getDrawnEntities(){
+        return drawnEntities;
+    }
+
+    public int getCulledEntities(){
+        return culledEntities;
+    }
+
+    public int getDrawnTerrainChunks(){
+        return terrainCache.getDrawnChunks();
+    }
+
+    public int getCulledTerrainChunks(){
+        return terrainCache.getChunkCount() - terrainCache.getDrawnChunks();
+    }
+
+    public int getTerrainChunkCount(){
+        return terrainCache.getChunkCount();
+    }
+
+    public long getStepNanos(){
+        return stepNanos;
+    }
+
     public void addDestroyBox(BoxObject box){
         destroyQueue.add(box);
     }
 
+    // 같은 레벨이면 월드를 다시 만들지 않고 변하는 상태만 되돌린다
     public void restartCurrentLevel(){
-        loadLevel(currentLevel);
+        if (!currentLevel.equals(loadedLevel)) {
+            loadLevel(currentLevel);
+            return;
+        }
+
+        level.reset();
+        destroyQueue.clear();
+        clearEffects();
+        fadeEffectTimer = 0f; // 사망/클리어 페이드 도중에 재시작해도 다음 판에 남지 않도록
+        input.startLevel(currentLevel);
+        player.reset(level.getPlayerStartPosition());
+        player.setIsCleared(false);
+    }
+
+    // 실제로 월드에 생성된 레벨 (currentLevel은 게임 클리어 후 다음에 올릴 레벨을 가리킬 수 있다)
+    String getLoadedLevel(){
+        return loadedLevel;
+    }
+
+    /** WorldSnapshot에서 호출: 고정 틱 누적 시간, 입력, 플레이어, 부서진 상자와 표지판, 이펙트 */
+    void writeState(ByteBuffer out) {
+        out.putFloat(accumulator).putFloat(fadeEffectTimer).put((byte) (isEnded ? 1 : 0));
+        input.writeState(out);
+        player.writeState(out);
+        level.writeState(out);
+        out.put((byte) playerEffects.size());
+        for (int i = 0; i < playerEffects.size(); i++) {
+            PlayerEffect effect = playerEffects.get(i);
+            out.put(effectType(effect));
+            effect.writeState(out);
+        }
+    }
+
+    /** WorldSnapshot에서 호출 (같은 레벨이 올라와 있어야 한다) */
+    void readState(ByteBuffer in) {
+        currentLevel = loadedLevel;
+        accumulator = in.getFloat();
+        fadeEffectTimer = in.getFloat();
+        isEnded = in.get() != 0;
+        input.readState(in, loadedLevel);
+        player.readState(in); // 플레이어 접촉을 먼저 지워야 상자와 표지판을 바꿀 때 접촉 이벤트가 나가지 않는다
+        level.readState(in);
+
+        clearEffects();
+        int effects = in.get();
+        for (int i = 0; i < effects; i++) {
+            PlayerEffect effect = obtainEffect(in.get());
+            effect.readState(in);
+            playerEffects.add(effect);
+        }
+
+        alpha = accumulator / TIME_STEP;
+        player.updateRenderPosition(alpha);
+    }
+
+    private static byte effectType(PlayerEffect effect) {
+        if (effect.getClass() == DashEffect.class) return EFFECT_DASH;
+        if (effect.getClass() == AttackEffect.class) return EFFECT_ATTACK;
+        throw new GdxRuntimeException("Effect type not registered for snapshots: " + effect.getClass().getName());
+    }
+
+    private PlayerEffect obtainEffect(byte type) {
+        switch (type) {
+            case EFFECT_DASH:
+                return obtainEffect(DashEffect.class);
+            case EFFECT_ATTACK:
+                return obtainEffect(AttackEffect.class);
+            default:
+                throw new GdxRuntimeException("Unknown effect type in snapshot: " + type);
+        }
     }
 
     public void clearedLevel(){
@@ -165,14 +387,42 @@ public class GameWorld {
         }
     }
 
+    /** 이 월드의 풀에서 이펙트를 꺼낸다 (init 후 addEffect로 등록) */
+    @SuppressWarnings("unchecked")
+    public <T extends PlayerEffect> T obtainEffect(Class<T> type) {
+        Pool<T> pool = (Pool<T>) effectPools.get(type);
+        if (pool == null) {
+            pool = new ReflectionPool<>(type);
+            effectPools.put(type, pool);
+        }
+        return pool.obtain();
+    }
+
     public void addEffect(PlayerEffect effect) {
         playerEffects.add(effect);
     }
 
+    @SuppressWarnings("unchecked")
+    private void freeEffect(PlayerEffect effect) {
+        Pool<PlayerEffect> pool = (Pool<PlayerEffect>) effectPools.get(effect.getClass());
+        if (pool != null) pool.free(effect);
+    }
+
+    private void clearEffects() {
+        for (int i = 0; i < playerEffects.size(); i++) {
+            freeEffect(playerEffects.get(i));
+        }
+        playerEffects.clear();
+    }
+
     public void addInputIcons(Icon icon){
         inputIcons.add(icon);
     }
 
+    public void removeInputIcon(Icon icon){
+        inputIcons.remove(icon);
+    }
+
     public boolean isPlayerOutOfLevel() {
         Vector2 pos = player.getBody().getPosition();
         Vector2 size = level.getLevelSize();
@@ -1,22 +1,30 @@
 package io.Term_2D_Game;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class Icon {
     private float x, y;    // 월드 좌표
     private float width, height;
-    private Texture texture;
+    private TextureRegion region;
 
-    public Icon(float x, float y, Texture texture) {
+    public Icon(float x, float y, TextureRegion region) {
         this.x = x;
         this.y = y;
-        this.texture = texture;
-        this.width = texture.getWidth() * 2.5f;
-        this.height = texture.getHeight() * 2.5f;
+        this.region = region;
+        this.width = region.getRegionWidth() * 2.5f;
+        this.height = region.getRegionHeight() * 2.5f;
+    }
+
+    public float getX() {
+        return x;
+    }
+
+    public float getY() {
+        return y;
     }
 
     public void draw(SpriteBatch batch) {
-        batch.draw(texture, x, y, width, height);
+        batch.draw(region, x, y, width, height);
     }
 }
@@ -0,0 +1,40 @@
+package io.Term_2D_Game.Input;
+
+/**
+ * 플레이어 조작 동작. 한 틱의 입력은 각 동작의 bit를 OR한 int 비트마스크로 표현한다.
+ */
+public enum Action {
+    LEFT, RIGHT, UP, DOWN, JUMP, INTERACT, ATTACK, DASH;
+
+    public final int bit = 1 << ordinal();
+
+    public boolean isIn(int mask) {
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * "RIGHT+JUMP" 같은 문자열을 비트마스크로 변환 ("-" 또는 빈 문자열은 입력 없음)
+     */
+    public static int parseMask(String text) {
+        int mask = 0;
+        for (String name : text.split("\\+")) {
+            name = name.trim();
+            if (name.isEmpty() || name.equals("-")) continue;
+            mask |= valueOf(name.toUpperCase()).bit;
+        }
+        return mask;
+    }
+
+    /**
+     * parseMask의 반대. 비트마스크를 "RIGHT+JUMP" 같은 문자열로 변환 (입력 없음은 "-")
+     */
+    public static String toText(int mask) {
+        StringBuilder text = new StringBuilder();
+        for (Action action : values()) {
+            if (!action.isIn(mask)) continue;
+            if (text.length() > 0) text.append('+');
+            text.append(action.name());
+        }
+        return text.length() > 0 ? text.toString() : "-";
+    }
+}
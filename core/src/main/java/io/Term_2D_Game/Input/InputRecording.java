@@ -0,0 +1,154 @@
+package io.Term_2D_Game.Input;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 레벨 시작부터의 틱별 입력 비트마스크를 런 길이 부호화(RLE)로 기록한다.
+ * 입력이 바뀔 때만 런이 추가되므로 항상 켜 두어도 틱당 비교 한 번 정도의 비용이다.
+ *
+ * 파일 구조 (big-endian):
+ * MAGIC, VERSION, 레벨 이름(UTF), 전체 틱 수, 런 개수, 런([길이(unsigned short), 마스크(byte)])
+ * 65535틱보다 긴 런은 여러 개로 나눠 저장한다.
+ */
+public class InputRecording {
+    public static final int MAGIC = 0x48435250; // "HCRP"
+    public static final int VERSION = 1;
+    public static final String EXTENSION = "rep";
+    private static final int MAX_RUN_LENGTH = 0xFFFF;
+
+    private String level = "";
+    private int[] runLengths = new int[64];
+    private byte[] runMasks = new byte[64];
+    private int runCount = 0;
+    private int tickCount = 0;
+
+    // 새 레벨(또는 재시작)부터 다시 기록
+    public void start(String level) {
+        this.level = level;
+        runCount = 0;
+        tickCount = 0;
+    }
+
+    public void record(int mask) {
+        tickCount++;
+        if (runCount > 0 && runMasks[runCount - 1] == (byte) mask && runLengths[runCount - 1] < MAX_RUN_LENGTH) {
+            runLengths[runCount - 1]++;
+            return;
+        }
+        if (runCount == runLengths.length) {
+            int[] lengths = new int[runCount * 2];
+            byte[] masks = new byte[runCount * 2];
+            System.arraycopy(runLengths, 0, lengths, 0, runCount);
+            System.arraycopy(runMasks, 0, masks, 0, runCount);
+            runLengths = lengths;
+            runMasks = masks;
+        }
+        runLengths[runCount] = 1;
+        runMasks[runCount] = (byte) mask;
+        runCount++;
+    }
+
+    /** 앞의 tickCount틱만 남긴다 (WorldSnapshot 복원 시 되돌린 구간의 입력을 지운다) */
+    public void truncate(int tickCount) {
+        if (tickCount >= this.tickCount) return;
+        int remove = this.tickCount - tickCount;
+        while (remove > 0) {
+            int last = runLengths[runCount - 1];
+            if (last > remove) {
+                runLengths[runCount - 1] = last - remove;
+                break;
+            }
+            remove -= last;
+            runCount--;
+        }
+        this.tickCount = tickCount;
+    }
+
+    /** 기록된 입력을 그대로 재생하는 InputSource */
+    public ScriptedInput toInput() {
+        ScriptedInput input = new ScriptedInput();
+        for (int i = 0; i < runCount; i++) {
+            input.add(runLengths[i], runMasks[i] & 0xFF);
+        }
+        return input;
+    }
+
+    public String getLevel() {
+        return level;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(level);
+        out.writeInt(tickCount);
+        out.writeInt(runCount);
+        for (int i = 0; i < runCount; i++) {
+            out.writeShort(runLengths[i]);
+            out.writeByte(runMasks[i]);
+        }
+        out.flush();
+    }
+
+    public static InputRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC) throw new GdxRuntimeException("Not an input recording");
+        int version = in.readInt();
+        if (version != VERSION) throw new GdxRuntimeException("Unsupported recording version: " + version);
+
+        InputRecording recording = new InputRecording();
+        recording.start(in.readUTF());
+        int tickCount = in.readInt();
+        int runCount = in.readInt();
+        for (int i = 0; i < runCount; i++) {
+            int length = in.readUnsignedShort();
+            byte mask = in.readByte();
+            for (int t = 0; t < length; t++) recording.record(mask & 0xFF);
+        }
+        if (recording.tickCount != tickCount) throw new GdxRuntimeException("Corrupted input recording");
+        return recording;
+    }
+
+    public void save(FileHandle file) {
+        OutputStream out = null;
+        try {
+            out = file.write(false);
+            write(out);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error writing input recording: " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+    }
+
+    public static InputRecording load(FileHandle file) {
+        InputStream in = null;
+        try {
+            in = file.read();
+            return read(in);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Error reading input recording: " + file, e);
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package io.Term_2D_Game.Input;
+
+/**
+ * 플레이어 입력 공급원 (키보드, 스크립트 등).
+ * GameWorld가 시뮬레이션 틱마다 한 번 poll()을 호출한다.
+ */
+public interface InputSource {
+    /** 이번 틱에 눌려 있는 동작의 비트마스크 ({@link Action#bit}) */
+    int poll();
+}
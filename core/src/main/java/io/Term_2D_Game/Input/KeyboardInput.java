@@ -0,0 +1,22 @@
+package io.Term_2D_Game.Input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+// 키보드/마우스 입력 (기존 Player.handleInput의 키 배치)
+public class KeyboardInput implements InputSource {
+
+    @Override
+    public int poll() {
+        int mask = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT)) mask |= Action.LEFT.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) mask |= Action.RIGHT.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP)) mask |= Action.UP.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN)) mask |= Action.DOWN.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.SPACE)) mask |= Action.JUMP.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.E) || Gdx.input.isKeyPressed(Input.Keys.C)) mask |= Action.INTERACT.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.Z) || Gdx.input.isButtonPressed(Input.Buttons.LEFT)) mask |= Action.ATTACK.bit;
+        if (Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT)) mask |= Action.DASH.bit;
+        return mask;
+    }
+}
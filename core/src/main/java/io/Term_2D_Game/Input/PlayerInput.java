@@ -0,0 +1,79 @@
+package io.Term_2D_Game.Input;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 틱 단위 입력 상태. 이전 틱과 비교해 "이번 틱에 눌림(just pressed)"을 판정한다.
+ * 읽은 입력은 항상 InputRecording에 기록된다 (버그 재현용 리플레이).
+ */
+public class PlayerInput {
+    private InputSource source;
+    private int current = 0;
+    private int previous = 0;
+    private final InputRecording recording = new InputRecording();
+
+    public PlayerInput(InputSource source) {
+        this.source = source;
+    }
+
+    // 시뮬레이션 틱마다 한 번 호출
+    public void update() {
+        previous = current;
+        current = source.poll();
+        recording.record(current);
+    }
+
+    /**
+     * 레벨 시작 시 호출. 이전 입력을 비워서 리플레이가 같은 상태에서 시작하도록 한다.
+     */
+    public void startLevel(String level) {
+        current = 0;
+        previous = 0;
+        recording.start(level);
+    }
+
+    public boolean isPressed(Action action) {
+        return action.isIn(current);
+    }
+
+    public boolean isJustPressed(Action action) {
+        return action.isIn(current) && !action.isIn(previous);
+    }
+
+    public int getMask() {
+        return current;
+    }
+
+    public void setSource(InputSource source) {
+        this.source = source;
+        current = 0;
+        previous = 0;
+    }
+
+    public InputSource getSource() {
+        return source;
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /** WorldSnapshot용: 현재/이전 틱 입력과 기록 길이 (입력 소스는 월드 상태가 아니므로 담지 않는다) */
+    public void writeState(ByteBuffer out) {
+        out.put((byte) current);
+        out.put((byte) previous);
+        out.putInt(recording.getTickCount());
+    }
+
+    /**
+     * WorldSnapshot 복원. 같은 레벨 기록이 그 시점까지 남아 있으면 이후 입력만 지우고,
+     * 아니면 (파일에서 읽은 스냅샷 등) 복원 시점부터 새로 기록한다.
+     */
+    public void readState(ByteBuffer in, String level) {
+        current = in.get() & 0xFF;
+        previous = in.get() & 0xFF;
+        int ticks = in.getInt();
+        if (level.equals(recording.getLevel()) && ticks <= recording.getTickCount()) recording.truncate(ticks);
+        else recording.start(level);
+    }
+}
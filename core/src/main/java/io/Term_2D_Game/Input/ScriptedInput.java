@@ -0,0 +1,74 @@
+package io.Term_2D_Game.Input;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 정해진 입력을 틱마다 순서대로 내보내는 InputSource (헤드리스 실행, 회귀 테스트용).
+ *
+ * 스크립트 형식: 한 줄에 "<틱 수> <동작>" (예: "120 RIGHT", "10 RIGHT+JUMP", "30 -")
+ * '#' 뒤는 주석. 스크립트가 끝나면 입력 없음(0)을 반환한다.
+ */
+public class ScriptedInput implements InputSource {
+    private final List<int[]> segments = new ArrayList<>(); // [틱 수, 비트마스크]
+    private int segmentIndex = 0;
+    private int segmentTick = 0;
+
+    public void add(int ticks, int mask) {
+        if (ticks > 0) segments.add(new int[]{ticks, mask});
+    }
+
+    public static ScriptedInput parse(String script) {
+        ScriptedInput input = new ScriptedInput();
+        String[] lines = script.split("\r?\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\s+", 2);
+            try {
+                input.add(Integer.parseInt(parts[0]), parts.length > 1 ? Action.parseMask(parts[1]) : 0);
+            } catch (IllegalArgumentException e) {
+                throw new GdxRuntimeException("Invalid input script line " + (i + 1) + ": " + lines[i], e);
+            }
+        }
+        return input;
+    }
+
+    public static ScriptedInput load(FileHandle file) {
+        return parse(file.readString("UTF-8"));
+    }
+
+    @Override
+    public int poll() {
+        if (isFinished()) return 0;
+        int[] segment = segments.get(segmentIndex);
+        if (++segmentTick >= segment[0]) {
+            segmentIndex++;
+            segmentTick = 0;
+        }
+        return segment[1];
+    }
+
+    public boolean isFinished() {
+        return segmentIndex >= segments.size();
+    }
+
+    // 스크립트 전체 길이 (틱)
+    public int getLength() {
+        int ticks = 0;
+        for (int[] segment : segments) ticks += segment[0];
+        return ticks;
+    }
+
+    public void rewind() {
+        segmentIndex = 0;
+        segmentTick = 0;
+    }
+}
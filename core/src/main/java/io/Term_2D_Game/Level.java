@@ -1,9 +1,19 @@
 package io.Term_2D_Game;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+import com.badlogic.gdx.utils.JsonReader;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import io.Term_2D_Game.Objects.*;
 
@@ -12,78 +22,290 @@ public class Level {
     private GameWorld gameWorld;
     private Vector2 playerStartPosition;
     private String nextLevel;
+    private final Vector2 flagPosition = new Vector2(); // 깃발 칸의 왼쪽 아래 (픽셀)
     private Vector2 levelSize;
+    private LevelStreamer streamer;
+    private TileMap tileMap; // 지형 타일 (객체 없이 격자로 저장, LevelData가 가진 것)
+
+    // 화면 컬링용 그리드
+    private SpatialGrid<BlockObject> blockGrid;
+    private SpatialGrid<Icon> iconGrid;
+
+    // 한 번 읽은 레벨 데이터 (재시작 시 다시 파싱하지 않음)
+    private Map<String, LevelData> levelCache = new HashMap<>();
+    private LevelData loadedData; // 현재 에셋을 잡고 있는 레벨
+
+    // 활성 청크에 있는, 리셋 시 상태를 되돌려야 하는 객체
+    private List<BoxObject> boxes = new ArrayList<>();
+    private List<SignObject> signs = new ArrayList<>();
+    // 부서진 상자의 칸 좌표 (청크가 내려가 상자 객체가 없어져도 남는다)
+    private final IntSet destroyedBoxes = new IntSet();
+    private final IntSet stateCells = new IntSet(); // 스냅샷 복원용 (재사용)
+    private final IntArray sortedCells = new IntArray(); // 스냅샷 기록용 (재사용)
 
     public Level(GameWorld gameWorld) {
         this.gameWorld = gameWorld;
         this.playerStartPosition = new Vector2();
         this.levelSize = new Vector2();
+        this.streamer = new LevelStreamer(gameWorld, this);
+        this.blockGrid = new SpatialGrid<>();
+        this.iconGrid = new SpatialGrid<>();
     }
 
+    /**
+     * 레벨 데이터를 읽고 시작 위치 주변 청크만 월드에 올린다. 나머지는 LevelStreamer가 플레이어를 따라 올린다.
+     * @param filePath 레벨 이름
+     */
     public void loadLevel(String filePath) {
-        Json json = new Json();
-        JsonValue root = json.fromJson(null, Gdx.files.internal("levels/" + filePath + ".json"));
+        streamer.cancelPrefetch(); // 백그라운드 준비가 Assets를 읽는 중에 에셋을 바꾸지 않도록
+        LevelData data = readLevelData(filePath);
+        // 새 레벨 에셋을 먼저 잡고 이전 레벨 것을 놓는다 (두 레벨이 같이 쓰는 텍스처는 내려가지 않음)
+        Assets.acquireLevel(data);
+        Assets.finishLoading();
+        if (loadedData != null) Assets.releaseLevel(loadedData);
+        loadedData = data;
+        boxes.clear();
+        signs.clear();
+        destroyedBoxes.clear();
 
-        if (root.has("playerStart")) {
-            JsonValue playerStart = root.get("playerStart");
-            playerStartPosition.x = playerStart.getFloat("x");
-            playerStartPosition.y = playerStart.getFloat("y");
-        }
+        playerStartPosition.set(data.playerStartX, data.playerStartY);
+        levelSize.set(data.levelWidth, data.levelHeight);
+
+        blockGrid.reset(this.levelSize.x, this.levelSize.y);
+        iconGrid.reset(this.levelSize.x, this.levelSize.y);
 
-        if (root.has("levelSize")) {
-            JsonValue levelSize = root.get("levelSize");
-            this.levelSize.x = levelSize.getFloat("x");
-            this.levelSize.y = levelSize.getFloat("y");
+        nextLevel = null;
+        for (int b = 0; b < data.blockCount; b++) {
+            if (data.blockTypes[b] != LevelData.TYPE_FLAG) continue;
+            nextLevel = data.blockNextLevels[b];
+            flagPosition.set(data.blockX[b] * BlockObject.BlockWidth, data.blockY[b] * BlockObject.BlockHeight);
         }
 
-        JsonValue blocks = root.get("blocks");
-        for (JsonValue blockData : blocks) {
-            float x = blockData.getFloat("x") * BlockObject.BlockWidth;
-            float y = blockData.getFloat("y") * BlockObject.BlockHeight;
-            float length = blockData.getFloat("length");
-            String type = blockData.getString("type");
-            String spriteName = blockData.getString("sprite");
-
-            for (int i=0; i<length; i++){
-                BlockObject block = null;
-                switch (type.toLowerCase()) {
-                    case "sand":
-                        block = new SandObject(x, y, spriteName, gameWorld.box2dWorld);
-                        break;
-                    case "stone":
-                        block = new StoneObject(x , y, spriteName, gameWorld.box2dWorld);
-                        break;
-                    case "box":
-                        block = new BoxObject(x, y, gameWorld.box2dWorld);
-                        break;
-                    case "flag":
-                        block = new FlagObject(x, y, gameWorld.box2dWorld);
-                        nextLevel = blockData.has("nextLevel") ? blockData.getString("nextLevel") : null;
-                        break;
-                    case "sign":
-                        String message = blockData.has("message") ? blockData.getString("message") : null;
-                        block = new SignObject(x, y, gameWorld.box2dWorld, message);
-                        break;
+        tileMap = data.getTileMap();
+        tileMap.resolveRegions(); // 에셋이 올라온 뒤에 타일 텍스처를 연결
+        streamer.load(data);
+        streamer.update(playerStartPosition.x);
+    }
 
-                }
+    /** 플레이어 위치를 기준으로 청크를 올리고 내린다 (매 틱) */
+    public void updateStreaming(float x) {
+        streamer.update(x);
+    }
 
-                if (block != null) {
-                    gameWorld.addBlock(block);
-                    x += BlockObject.BlockWidth;
+    /**
+     * 청크가 활성화될 때 상자, 깃발, 표지판을 만든다 (LevelStreamer에서 호출).
+     * 이미 부서진 칸의 상자는 Body를 끈 채로 만든다 (새로 올린 월드와 Body 구성이 같도록)
+     * @param b 블록 인덱스
+     * @param x X 좌표 (픽셀)
+     * @param y Y 좌표 (픽셀)
+     * @return 생성된 객체 (지형이나 알 수 없는 타입이면 null)
+     */
+    BlockObject spawnEntity(LevelData data, int b, float x, float y) {
+        BlockObject block;
+        switch (data.blockTypes[b]) {
+            case LevelData.TYPE_BOX:
+                BoxObject box = new BoxObject(x, y, gameWorld.box2dWorld);
+                boxes.add(box);
+                if (destroyedBoxes.contains(cellKey(box))) {
+                    box.destroy(gameWorld.blocks);
+                    return box;
                 }
+                block = box;
+                break;
+            case LevelData.TYPE_FLAG:
+                block = new FlagObject(x, y, gameWorld.box2dWorld);
+                break;
+            case LevelData.TYPE_SIGN:
+                block = new SignObject(x, y, gameWorld.box2dWorld, data.blockMessages[b]);
+                signs.add((SignObject) block);
+                break;
+            default:
+                return null;
+        }
+        gameWorld.addBlock(block);
+        blockGrid.add(block, x, y);
+        return block;
+    }
+
+    /** 청크가 비활성화될 때 객체와 Body를 버린다 (부서진 상자는 destroyedBoxes에 남는다) */
+    void despawnEntity(BlockObject block) {
+        if (block instanceof BoxObject) boxes.remove(block);
+        else if (block instanceof SignObject) signs.remove(block);
+        gameWorld.blocks.remove(block);
+        blockGrid.remove(block, block.position.x, block.position.y);
+        gameWorld.box2dWorld.destroyBody(block.body);
+        block.body = null;
+    }
+
+    /** 공격 받은 상자를 부순다 (물리 스텝 뒤에 GameWorld에서 호출) */
+    public void destroyBox(BoxObject box) {
+        if (box.isDestroyed()) return;
+        blockGrid.remove(box, box.position.x, box.position.y);
+        box.destroy(gameWorld.blocks);
+        destroyedBoxes.add(cellKey(box));
+    }
+
+    /**
+     * 지형과 Sprite는 그대로 두고 변하는 상태(파괴된 상자, 표지판 메시지)만 처음 상태로 되돌린다.
+     */
+    public void reset() {
+        destroyedBoxes.clear();
+        for (BoxObject box : boxes) {
+            if (!box.isDestroyed()) continue;
+            box.restore();
+            gameWorld.addBlock(box);
+            blockGrid.add(box, box.position.x, box.position.y);
+        }
+        for (SignObject sign : signs) {
+            sign.hideMessage();
+        }
+    }
+
+    /**
+     * WorldSnapshot용: 부서진 상자(청크가 내려간 것 포함)와 말풍선이 보이는 표지판을 칸 좌표(개수, [x, y])로 쓴다.
+     * 목록 순서는 청크에 들어간 순서라서 월드마다 다를 수 있으므로 인덱스 대신 정렬한 칸 좌표를 쓴다.
+     */
+    public void writeState(ByteBuffer out) {
+        sortedCells.clear();
+        IntSet.IntSetIterator cells = destroyedBoxes.iterator();
+        while (cells.hasNext) {
+            sortedCells.add(cells.next());
+        }
+        sortedCells.sort();
+        out.putShort((short) sortedCells.size);
+        for (int i = 0; i < sortedCells.size; i++) {
+            int key = sortedCells.get(i);
+            out.putShort((short) (key >> 16)).putShort((short) key);
+        }
+
+        int countPosition = out.position();
+        out.putShort((short) 0);
+        int count = 0;
+        for (int i = 0; i < signs.size(); i++) {
+            SignObject sign = signs.get(i);
+            if (!sign.isVisible()) continue;
+            writeCell(out, sign);
+            count++;
+        }
+        out.putShort(countPosition, (short) count);
+    }
+
+    /**
+     * WorldSnapshot 복원: 부서진 상자 칸을 바꾸고, 복원한 플레이어 위치에 맞게 청크를 올린 뒤
+     * 올라와 있는 상자를 끄거나 되살리고, 표지판 말풍선을 맞춘다.
+     * 플레이어가 먼저 복원되어 있어야 한다 (Player.readState, 접촉도 이때 지워진다)
+     */
+    public void readState(ByteBuffer in) {
+        readCells(in);
+        destroyedBoxes.clear();
+        destroyedBoxes.addAll(stateCells);
+        streamer.update(gameWorld.getPlayer().getBody().getPosition().x * GameWorld.PPM);
+        for (int i = 0; i < boxes.size(); i++) {
+            BoxObject box = boxes.get(i);
+            boolean destroyed = stateCells.contains(cellKey(box));
+            if (destroyed == box.isDestroyed()) continue;
+            if (destroyed) {
+                destroyBox(box);
+            } else {
+                box.restore();
+                gameWorld.addBlock(box);
+                blockGrid.add(box, box.position.x, box.position.y);
             }
         }
 
-        JsonValue icons = root.get("icons");
-        if(icons != null){
-            for (JsonValue iconData : icons) {
-                float x = iconData.getFloat("x");
-                float y = iconData.getFloat("y");
-                String spriteName = iconData.getString("sprite");
-                Icon inputIcon = new Icon(x, y, Assets.get(spriteName));
-                gameWorld.addInputIcons(inputIcon);
+        readCells(in);
+        for (int i = 0; i < signs.size(); i++) {
+            SignObject sign = signs.get(i);
+            if (stateCells.contains(cellKey(sign))) sign.showMessage();
+            else sign.hideMessage();
+        }
+    }
+
+    private static void writeCell(ByteBuffer out, BlockObject block) {
+        out.putShort((short) Math.round(block.position.x / BlockObject.BlockWidth));
+        out.putShort((short) Math.round(block.position.y / BlockObject.BlockHeight));
+    }
+
+    // 칸 좌표 목록을 stateCells에 읽는다
+    private void readCells(ByteBuffer in) {
+        stateCells.clear();
+        int count = in.getShort();
+        for (int i = 0; i < count; i++) {
+            int x = in.getShort();
+            int y = in.getShort();
+            stateCells.add(cellKey(x, y));
+        }
+    }
+
+    private static int cellKey(BlockObject block) {
+        return cellKey(Math.round(block.position.x / BlockObject.BlockWidth), Math.round(block.position.y / BlockObject.BlockHeight));
+    }
+
+    private static int cellKey(int x, int y) {
+        return x << 16 | (y & 0xFFFF);
+    }
+
+    /**
+     * 파일 없이 메모리에서 만든 레벨을 등록한다 (벤치마크, 테스트용 생성 레벨).
+     * 이후 같은 이름으로 loadLevel 하면 이 데이터를 사용한다.
+     */
+    public void registerLevelData(String name, LevelData data) {
+        levelCache.put(name, data);
+    }
+
+    private LevelData readLevelData(String filePath) {
+        LevelData data = levelCache.get(filePath);
+        if (data != null) return data;
+
+        data = readLevelFile(filePath);
+        levelCache.put(filePath, data);
+        return data;
+    }
+
+    /**
+     * 레벨 파일을 읽는다. 컴파일된 바이너리(.lvl)가 있으면 사용하고, 없거나 읽을 수 없으면 JSON으로 대체
+     * @param filePath 레벨 이름 (확장자 제외)
+     */
+    public static LevelData readLevelFile(String filePath) {
+        LevelData data = new LevelData();
+        FileHandle compiled = Gdx.files.internal("levels/" + filePath + "." + LevelCompiler.COMPILED_EXTENSION);
+        boolean loaded = false;
+        if (compiled.exists()) {
+            try {
+                data.readBinary(readBuffer(compiled));
+                loaded = true;
+            } catch (RuntimeException e) {
+                System.out.println("[Level] " + compiled.path() + " 을 읽을 수 없어 JSON을 사용합니다: " + e.getMessage());
             }
         }
+        if (!loaded) {
+            data.readJson(new JsonReader().parse(Gdx.files.internal("levels/" + filePath + ".json")));
+        }
+        return data;
+    }
+
+    // 파일 시스템에 있으면 메모리 매핑, jar 내부 등이면 한 번에 읽기
+    private static ByteBuffer readBuffer(FileHandle file) {
+        try {
+            return file.map().order(ByteOrder.BIG_ENDIAN); // map()은 native order로 설정됨
+        } catch (GdxRuntimeException e) {
+            return ByteBuffer.wrap(file.readBytes());
+        }
+    }
+
+    // 백그라운드 준비 스레드를 멈추고 현재 레벨이 잡고 있던 에셋을 놓는다
+    public void dispose() {
+        streamer.dispose();
+        if (loadedData != null) Assets.releaseLevel(loadedData);
+        loadedData = null;
+    }
+
+    public TileMap getTileMap(){
+        return tileMap;
+    }
+
+    public LevelStreamer getStreamer(){
+        return streamer;
     }
 
     public Vector2 getPlayerStartPosition(){
@@ -94,9 +316,31 @@ public class Level {
         return nextLevel;
     }
 
+    public Vector2 getFlagPosition(){
+        return flagPosition;
+    }
+
+    // 활성 청크에 있는 상자
+    public List<BoxObject> getBoxes(){
+        return boxes;
+    }
+
+    // 부서진 상자의 칸 좌표 (x << 16 | y)
+    public IntSet getDestroyedBoxes(){
+        return destroyedBoxes;
+    }
+
     public Vector2 getLevelSize(){
         return this.levelSize;
     }
+
+    public SpatialGrid<BlockObject> getBlockGrid(){
+        return blockGrid;
+    }
+
+    public SpatialGrid<Icon> getIconGrid(){
+        return iconGrid;
+    }
 }
 
 
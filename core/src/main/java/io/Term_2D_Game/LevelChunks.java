@@ -0,0 +1,193 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 레벨을 LevelStreamer.CHUNK_WIDTH 폭의 세로 띠(청크)로 나눈 색인.
+ * 청크별로 상자/깃발/표지판 칸, 입력 아이콘, 지형 외곽선을 가진다.
+ *
+ * LevelCompiler가 외곽선까지 모두 계산해 .lvl에 넣어 두므로 런타임에는 읽기만 한다.
+ * JSON이나 메모리에서 만든 레벨은 색인만 만들고, 외곽선은 LevelStreamer가 청크를 준비할 때 계산한다.
+ */
+public class LevelChunks {
+    private int first;
+    private IntArray[] entities = new IntArray[0]; // 청크별 [블록 인덱스, 칸]
+    private IntArray[] icons = new IntArray[0];    // 청크별 [아이콘 인덱스]
+    private final List<List<TerrainColliderBuilder.Outline>> outlines = new ArrayList<>(); // 계산 전이면 null
+
+    /** 지형 격자와 레벨 데이터로 청크 색인을 만든다 (외곽선은 비워 둔다) */
+    public void build(LevelData data, TileMap map) {
+        int minChunk = Integer.MAX_VALUE;
+        int maxChunk = Integer.MIN_VALUE;
+        if (map.getWidth() > 0) {
+            minChunk = chunkOfCell(map.getMinX());
+            maxChunk = chunkOfCell(map.getMinX() + map.getWidth() - 1);
+        }
+        for (int b = 0; b < data.blockCount; b++) {
+            if (!isEntity(data.blockTypes[b])) continue;
+            int firstCell = (int) data.blockX[b];
+            minChunk = Math.min(minChunk, chunkOfCell(firstCell));
+            maxChunk = Math.max(maxChunk, chunkOfCell(firstCell + Math.max(1, data.blockLength[b]) - 1));
+        }
+        for (int i = 0; i < data.iconCount; i++) {
+            int chunk = LevelStreamer.chunkOf(data.iconX[i]);
+            minChunk = Math.min(minChunk, chunk);
+            maxChunk = Math.max(maxChunk, chunk);
+        }
+        if (minChunk > maxChunk) {
+            allocate(0, 0);
+            return;
+        }
+
+        allocate(minChunk, maxChunk - minChunk + 1);
+        for (int b = 0; b < data.blockCount; b++) {
+            if (!isEntity(data.blockTypes[b])) continue;
+            int firstCell = (int) data.blockX[b];
+            for (int cell = 0; cell < data.blockLength[b]; cell++) {
+                entities[chunkOfCell(firstCell + cell) - first].add(b, cell);
+            }
+        }
+        for (int i = 0; i < data.iconCount; i++) {
+            icons[LevelStreamer.chunkOf(data.iconX[i]) - first].add(i);
+        }
+    }
+
+    /** 아직 계산하지 않은 청크의 외곽선을 모두 계산한다 (LevelCompiler용) */
+    public void traceOutlines(TileMap map) {
+        TerrainColliderBuilder colliders = new TerrainColliderBuilder();
+        for (int i = 0; i < outlines.size(); i++) {
+            if (outlines.get(i) != null) continue;
+            int fromX = (first + i) * LevelStreamer.CHUNK_TILES;
+            outlines.set(i, colliders.trace(map, fromX, fromX + LevelStreamer.CHUNK_TILES));
+        }
+    }
+
+    /**
+     * 청크 색인을 바이너리로 쓴다. 외곽선이 없는 청크는 먼저 계산한다.
+     * [첫 청크, 청크 수, 청크별([엔티티 수, [블록 인덱스, 칸]], [아이콘 수, [인덱스]],
+     *  [외곽선 수, [재질, 루프, 꼭짓점 수, [x, y], 앞 고스트 여부, [x, y], 뒤 고스트 여부, [x, y]]])]
+     */
+    public void write(DataOutputStream out, TileMap map) throws IOException {
+        traceOutlines(map);
+        out.writeInt(first);
+        out.writeInt(outlines.size());
+        for (int i = 0; i < outlines.size(); i++) {
+            writeInts(out, entities[i]);
+            writeInts(out, icons[i]);
+
+            List<TerrainColliderBuilder.Outline> chunkOutlines = outlines.get(i);
+            out.writeInt(chunkOutlines.size());
+            for (TerrainColliderBuilder.Outline outline : chunkOutlines) {
+                out.writeByte(outline.material);
+                out.writeBoolean(outline.loop);
+                out.writeInt(outline.vertices.length);
+                for (float v : outline.vertices) {
+                    out.writeFloat(v);
+                }
+                writeVertex(out, outline.prevVertex);
+                writeVertex(out, outline.nextVertex);
+            }
+        }
+    }
+
+    public void read(ByteBuffer buffer) {
+        int start = buffer.getInt();
+        int count = buffer.getInt();
+        allocate(start, count);
+        for (int i = 0; i < count; i++) {
+            readInts(buffer, entities[i]);
+            readInts(buffer, icons[i]);
+
+            int outlineCount = buffer.getInt();
+            List<TerrainColliderBuilder.Outline> chunkOutlines = new ArrayList<>(outlineCount);
+            for (int o = 0; o < outlineCount; o++) {
+                byte material = buffer.get();
+                boolean loop = buffer.get() != 0;
+                float[] vertices = new float[buffer.getInt()];
+                buffer.asFloatBuffer().get(vertices);
+                buffer.position(buffer.position() + vertices.length * 4);
+                float[] prevVertex = readVertex(buffer);
+                float[] nextVertex = readVertex(buffer);
+                chunkOutlines.add(new TerrainColliderBuilder.Outline(vertices, loop, material, prevVertex, nextVertex));
+            }
+            outlines.set(i, chunkOutlines);
+        }
+    }
+
+    private void allocate(int first, int count) {
+        this.first = first;
+        entities = new IntArray[count];
+        icons = new IntArray[count];
+        outlines.clear();
+        for (int i = 0; i < count; i++) {
+            entities[i] = new IntArray();
+            icons[i] = new IntArray();
+            outlines.add(null);
+        }
+    }
+
+    private static void writeVertex(DataOutputStream out, float[] vertex) throws IOException {
+        out.writeBoolean(vertex != null);
+        if (vertex == null) return;
+        out.writeFloat(vertex[0]);
+        out.writeFloat(vertex[1]);
+    }
+
+    private static float[] readVertex(ByteBuffer buffer) {
+        if (buffer.get() == 0) return null;
+        return new float[]{buffer.getFloat(), buffer.getFloat()};
+    }
+
+    private static void writeInts(DataOutputStream out, IntArray values) throws IOException {
+        out.writeInt(values.size);
+        for (int i = 0; i < values.size; i++) {
+            out.writeInt(values.get(i));
+        }
+    }
+
+    private static void readInts(ByteBuffer buffer, IntArray values) {
+        int size = buffer.getInt();
+        values.clear();
+        values.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            values.add(buffer.getInt());
+        }
+    }
+
+    // 지형이 아닌 블록 (상자, 깃발, 표지판)
+    private static boolean isEntity(byte type) {
+        return type != LevelData.TYPE_UNKNOWN && TileMap.materialOf(type) == TileMap.EMPTY;
+    }
+
+    private static int chunkOfCell(int cellX) {
+        return Math.floorDiv(cellX, LevelStreamer.CHUNK_TILES);
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getCount() {
+        return outlines.size();
+    }
+
+    /** @param i 0부터 시작하는 순서 (청크 번호 - getFirst()) */
+    public IntArray getEntities(int i) {
+        return entities[i];
+    }
+
+    public IntArray getIcons(int i) {
+        return icons[i];
+    }
+
+    /** 미리 계산된 외곽선 (없으면 null) */
+    public List<TerrainColliderBuilder.Outline> getOutlines(int i) {
+        return outlines.get(i);
+    }
+}
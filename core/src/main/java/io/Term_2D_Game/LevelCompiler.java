@@ -0,0 +1,80 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * levels/*.json 을 검사(LevelValidator)하고 Level이 바로 읽을 수 있는 바이너리(.lvl)로 변환한다.
+ * 바이너리에는 에셋 목록, 자동 타일이 적용된 지형 격자, 청크 색인과 청크별 지형 외곽선까지 미리 계산해 넣는다.
+ * 오류가 하나라도 있으면 아무 파일도 쓰지 않고 실패한다.
+ *
+ * Gradle의 compileLevels / validateLevels 태스크에서 실행된다. (인자: [--check] 레벨 폴더 경로, --check는 검사만)
+ */
+public class LevelCompiler {
+    public static final String COMPILED_EXTENSION = "lvl";
+
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        boolean checkOnly = arguments.remove("--check");
+        File dir = new File(arguments.isEmpty() ? "assets/levels" : arguments.get(0));
+        File[] files = dir.listFiles();
+        if (files == null) throw new IOException("Level folder not found: " + dir.getAbsolutePath());
+        Arrays.sort(files);
+
+        Set<String> levelNames = new LinkedHashSet<>();
+        for (File file : files) {
+            if (file.getName().endsWith(".json")) levelNames.add(nameOf(file));
+        }
+
+        LevelValidator validator = new LevelValidator(dir.getAbsoluteFile().getParentFile(), levelNames);
+        JsonReader reader = new JsonReader();
+        List<String> errors = new ArrayList<>();
+        List<LevelData> levels = new ArrayList<>();
+        for (String name : levelNames) {
+            LevelData data = new LevelData();
+            try {
+                errors.addAll(validator.validate(name, reader.parse(new FileHandle(new File(dir, name + ".json"))), data));
+            } catch (RuntimeException e) {
+                errors.add(name + ": 읽을 수 없습니다 (" + e.getMessage() + ")");
+            }
+            levels.add(data);
+        }
+        if (!errors.isEmpty()) {
+            for (String error : errors) {
+                System.out.println("[LevelCompiler] " + error);
+            }
+            throw new GdxRuntimeException("레벨 오류 " + errors.size() + "개");
+        }
+        if (checkOnly) {
+            System.out.println("[LevelCompiler] " + levelNames.size() + " levels OK");
+            return;
+        }
+
+        int i = 0;
+        for (String name : levelNames) {
+            LevelData data = levels.get(i++);
+            File output = new File(dir, name + "." + COMPILED_EXTENSION);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+                data.writeBinary(out);
+            }
+            System.out.println("[LevelCompiler] " + name + ".json -> " + output.getName() + " (" + output.length() + " bytes, "
+                + data.getChunks().getCount() + " chunks)");
+        }
+    }
+
+    private static String nameOf(File file) {
+        return file.getName().substring(0, file.getName().length() - ".json".length());
+    }
+}
@@ -0,0 +1,303 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 레벨 파일을 파싱한 결과 (객체 생성 전 단계).
+ * JSON 또는 LevelCompiler가 만든 바이너리(.lvl)에서 읽을 수 있다.
+ *
+ * 바이너리 구조 (big-endian):
+ * MAGIC, VERSION, playerStart(x, y), levelSize(x, y),
+ * 문자열 테이블(개수, [길이, UTF-8]), 블록(개수, [type, x, y, length, sprite, message, nextLevel]),
+ * 아이콘(개수, [x, y, sprite]), 에셋 목록(개수, [sprite]), 지형 격자(TileMap), 청크 색인(LevelChunks).
+ * 문자열은 테이블 인덱스로 저장하며 null은 -1.
+ *
+ * 에셋 목록, 지형 격자, 청크 색인은 블록 데이터에서 계산되는 값이다. 바이너리에는 LevelCompiler가
+ * 미리 계산해 넣어 두고, JSON으로 읽었을 때만 처음 요청될 때 계산한다.
+ */
+public class LevelData {
+    public static final int MAGIC = 0x48434C56; // "HCLV"
+    public static final int VERSION = 3;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    // 블록 타입
+    public static final byte TYPE_UNKNOWN = -1;
+    public static final byte TYPE_SAND = 0;
+    public static final byte TYPE_STONE = 1;
+    public static final byte TYPE_BOX = 2;
+    public static final byte TYPE_FLAG = 3;
+    public static final byte TYPE_SIGN = 4;
+
+    public float playerStartX, playerStartY;
+    public float levelWidth, levelHeight;
+
+    // 블록 (같은 타입이 가로로 length개 이어진 묶음)
+    public int blockCount;
+    public byte[] blockTypes = new byte[0];
+    public float[] blockX = new float[0];
+    public float[] blockY = new float[0];
+    public int[] blockLength = new int[0];
+    public String[] blockSprites = new String[0];
+    public String[] blockMessages = new String[0];
+    public String[] blockNextLevels = new String[0];
+
+    // 입력 아이콘 (픽셀 좌표)
+    public int iconCount;
+    public float[] iconX = new float[0];
+    public float[] iconY = new float[0];
+    public String[] iconSprites = new String[0];
+
+    // 블록 데이터에서 계산되는 값 (다시 읽으면 초기화)
+    private Set<String> spriteKeys;
+    private TileMap tileMap;
+    private LevelChunks chunks;
+
+    public static byte typeOf(String type) {
+        switch (type.toLowerCase()) {
+            case "sand": return TYPE_SAND;
+            case "stone": return TYPE_STONE;
+            case "box": return TYPE_BOX;
+            case "flag": return TYPE_FLAG;
+            case "sign": return TYPE_SIGN;
+            default: return TYPE_UNKNOWN;
+        }
+    }
+
+    public void readJson(JsonValue root) {
+        clearDerived();
+        if (root.has("playerStart")) {
+            JsonValue playerStart = root.get("playerStart");
+            playerStartX = playerStart.getFloat("x");
+            playerStartY = playerStart.getFloat("y");
+        }
+
+        if (root.has("levelSize")) {
+            JsonValue levelSize = root.get("levelSize");
+            levelWidth = levelSize.getFloat("x");
+            levelHeight = levelSize.getFloat("y");
+        }
+
+        JsonValue blocks = root.get("blocks");
+        ensureBlockCapacity(blocks == null ? 0 : blocks.size);
+        blockCount = 0;
+        if (blocks != null) {
+            for (JsonValue blockData : blocks) {
+                int i = blockCount++;
+                blockTypes[i] = typeOf(blockData.getString("type"));
+                blockX[i] = blockData.getFloat("x");
+                blockY[i] = blockData.getFloat("y");
+                blockLength[i] = (int) Math.ceil(blockData.getFloat("length"));
+                blockSprites[i] = blockData.getString("sprite", null); // 지형은 생략하면 자동 타일
+                blockMessages[i] = blockData.getString("message", null);
+                blockNextLevels[i] = blockData.getString("nextLevel", null);
+            }
+        }
+
+        JsonValue icons = root.get("icons");
+        ensureIconCapacity(icons == null ? 0 : icons.size);
+        iconCount = 0;
+        if (icons != null) {
+            for (JsonValue iconData : icons) {
+                int i = iconCount++;
+                iconX[i] = iconData.getFloat("x");
+                iconY[i] = iconData.getFloat("y");
+                iconSprites[i] = iconData.getString("sprite");
+            }
+        }
+    }
+
+    public void readBinary(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) throw new GdxRuntimeException("Not a compiled level file");
+        int version = buffer.getInt();
+        if (version != VERSION) throw new GdxRuntimeException("Unsupported level version: " + version);
+        clearDerived();
+
+        playerStartX = buffer.getFloat();
+        playerStartY = buffer.getFloat();
+        levelWidth = buffer.getFloat();
+        levelHeight = buffer.getFloat();
+
+        String[] strings = new String[buffer.getShort()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[buffer.getShort()];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, UTF8);
+        }
+
+        blockCount = buffer.getInt();
+        ensureBlockCapacity(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            blockTypes[i] = buffer.get();
+            blockX[i] = buffer.getFloat();
+            blockY[i] = buffer.getFloat();
+            blockLength[i] = buffer.getInt();
+            blockSprites[i] = string(strings, buffer.getShort());
+            blockMessages[i] = string(strings, buffer.getShort());
+            blockNextLevels[i] = string(strings, buffer.getShort());
+        }
+
+        iconCount = buffer.getInt();
+        ensureIconCapacity(iconCount);
+        for (int i = 0; i < iconCount; i++) {
+            iconX[i] = buffer.getFloat();
+            iconY[i] = buffer.getFloat();
+            iconSprites[i] = string(strings, buffer.getShort());
+        }
+
+        spriteKeys = new LinkedHashSet<>();
+        int keyCount = buffer.getShort();
+        for (int i = 0; i < keyCount; i++) {
+            spriteKeys.add(strings[buffer.getShort()]);
+        }
+        tileMap = new TileMap();
+        tileMap.read(buffer, strings);
+        chunks = new LevelChunks();
+        chunks.read(buffer);
+    }
+
+    /** 바이너리로 쓴다. 계산되는 값(에셋 목록, 지형 격자, 청크 외곽선)도 모두 계산해서 함께 쓴다 */
+    public void writeBinary(DataOutputStream out) throws IOException {
+        Set<String> keys = getSpriteKeys();
+        TileMap map = getTileMap();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < blockCount; i++) {
+            addString(strings, blockSprites[i]);
+            addString(strings, blockMessages[i]);
+            addString(strings, blockNextLevels[i]);
+        }
+        for (int i = 0; i < iconCount; i++) {
+            addString(strings, iconSprites[i]);
+        }
+        for (String key : keys) {
+            addString(strings, key);
+        }
+        for (String name : map.getTileNames()) {
+            addString(strings, name);
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeFloat(playerStartX);
+        out.writeFloat(playerStartY);
+        out.writeFloat(levelWidth);
+        out.writeFloat(levelHeight);
+
+        out.writeShort(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(UTF8);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            out.writeByte(blockTypes[i]);
+            out.writeFloat(blockX[i]);
+            out.writeFloat(blockY[i]);
+            out.writeInt(blockLength[i]);
+            out.writeShort(strings.indexOf(blockSprites[i]));
+            out.writeShort(strings.indexOf(blockMessages[i]));
+            out.writeShort(strings.indexOf(blockNextLevels[i]));
+        }
+
+        out.writeInt(iconCount);
+        for (int i = 0; i < iconCount; i++) {
+            out.writeFloat(iconX[i]);
+            out.writeFloat(iconY[i]);
+            out.writeShort(strings.indexOf(iconSprites[i]));
+        }
+
+        out.writeShort(keys.size());
+        for (String key : keys) {
+            out.writeShort(strings.indexOf(key));
+        }
+        map.write(out, strings);
+        getChunks().write(out, map);
+    }
+
+    /** 지형 격자 (자동 타일 포함, 텍스처는 연결 전) */
+    public TileMap getTileMap() {
+        if (tileMap == null) {
+            tileMap = new TileMap();
+            tileMap.build(this);
+        }
+        return tileMap;
+    }
+
+    /** 청크 색인 (JSON에서 읽었으면 외곽선은 비어 있다) */
+    public LevelChunks getChunks() {
+        if (chunks == null) {
+            chunks = new LevelChunks();
+            chunks.build(this, getTileMap());
+        }
+        return chunks;
+    }
+
+    private void clearDerived() {
+        spriteKeys = null;
+        tileMap = null;
+        chunks = null;
+    }
+
+    /**
+     * 이 레벨이 쓰는 Sprite 키 목록 (블록, 입력 아이콘). Assets가 레벨 단위로 로드/해제할 때 사용한다.
+     * Box, Flag, Sign은 데이터의 sprite 대신 각 객체가 고정으로 쓰는 Sprite를 넣는다.
+     * sprite가 없는 지형은 어떤 조각이 쓰일지 격자를 만들기 전에는 모르므로 재질의 자동 타일 조각을 모두 넣는다.
+     */
+    public Set<String> getSpriteKeys() {
+        if (spriteKeys != null) return spriteKeys;
+        spriteKeys = new LinkedHashSet<>();
+        for (int i = 0; i < blockCount; i++) {
+            switch (blockTypes[i]) {
+                case TYPE_BOX: spriteKeys.add("block_planks"); break;
+                case TYPE_FLAG: spriteKeys.add("flag_red_a"); break;
+                case TYPE_SIGN: spriteKeys.add("sign"); break;
+                case TYPE_UNKNOWN: break; // 생성되지 않는 블록
+                default:
+                    if (blockSprites[i] != null) spriteKeys.add(blockSprites[i]);
+                    else AutoTiler.addPieceNames(TileMap.materialOf(blockTypes[i]), spriteKeys);
+                    break;
+            }
+        }
+        for (int i = 0; i < iconCount; i++) {
+            if (iconSprites[i] != null) spriteKeys.add(iconSprites[i]);
+        }
+        return spriteKeys;
+    }
+
+    private static void addString(List<String> strings, String s) {
+        if (s != null && !strings.contains(s)) strings.add(s);
+    }
+
+    private static String string(String[] strings, short index) {
+        return index < 0 ? null : strings[index];
+    }
+
+    private void ensureBlockCapacity(int size) {
+        if (blockTypes.length >= size) return;
+        blockTypes = new byte[size];
+        blockX = new float[size];
+        blockY = new float[size];
+        blockLength = new int[size];
+        blockSprites = new String[size];
+        blockMessages = new String[size];
+        blockNextLevels = new String[size];
+    }
+
+    private void ensureIconCapacity(int size) {
+        if (iconX.length >= size) return;
+        iconX = new float[size];
+        iconY = new float[size];
+        iconSprites = new String[size];
+    }
+}
@@ -0,0 +1,308 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import io.Term_2D_Game.Objects.BlockObject;
+
+/**
+ * 레벨을 CHUNK_WIDTH 폭의 세로 띠(청크)로 나누고, 기준 위치(플레이어) 주변 청크만 월드에 올린다.
+ *
+ * - 활성 청크: 지형 충돌체(청크당 정적 Body 하나), 입력 아이콘, 상자, 깃발, 표지판, 렌더 캐시 등록
+ * - 비활성화: 위의 Body와 객체를 모두 버린다 (다시 들어오면 TileMap과 LevelData에서 새로 만든다)
+ * - 지형 타일은 객체 없이 Level의 TileMap에만 있다
+ * - 청크가 내려가도 남아야 하는 상태(부서진 상자)는 Level이 칸 좌표로만 가지고, 다시 만들 때 적용한다
+ * - 다음에 들어올 청크는 백그라운드 스레드가 미리 준비한다 (외곽선 계산, 아이콘 생성).
+ *   스레드는 모든 LevelStreamer가 하나를 같이 쓰며, 헤드리스 실행은 setPrefetchEnabled(false)로 끄고 그 자리에서 준비한다
+ *
+ * 기준 위치로 카메라 대신 플레이어 X를 쓴다. 카메라는 플레이어를 따라가고(레벨 끝에서는 안쪽으로 잘린다)
+ * 화면 폭의 절반(480px)이 CHUNK_WIDTH보다 작으므로 화면은 항상 ACTIVE_RADIUS 안의 청크에 들어간다.
+ * 청크는 레벨 높이 전체를 덮는 세로 띠라서 세로 방향은 따로 스트리밍하지 않는다.
+ * 플레이어 위치는 헤드리스에서도 같으므로, 어떤 청크가 활성인지는 화면이나 스레드 타이밍과 무관하고
+ * 헤드리스 시뮬레이션과 리플레이는 그대로 결정적이다.
+ * Body는 청크가 다시 들어올 때마다 새로 만들므로, 제자리 재시작 뒤의 리플레이가 새로 올린 월드와
+ * 비트 단위로 같은지는 HeadlessLauncher --restart로 확인한다.
+ */
+public class LevelStreamer implements Disposable {
+    public static final int CHUNK_TILES = 16;
+    public static final float CHUNK_WIDTH = BlockObject.BlockWidth * CHUNK_TILES;
+
+    // 기준 청크로부터의 거리 (청크 단위)
+    private static final int ACTIVE_RADIUS = 1;     // 이 안은 활성
+    private static final int PREFETCH_RADIUS = 2;   // 이 안은 미리 준비
+    private static final int DEACTIVATE_RADIUS = 2; // 이 밖이면 비활성 (경계에서 켜고 끄기를 반복하지 않도록)
+
+    // 모든 인스턴스가 같이 쓰는 준비 스레드 (처음 쓸 때 만든다, 데몬이라 종료를 막지 않는다)
+    private static volatile ExecutorService prefetcher;
+    private static volatile boolean prefetchEnabled = true;
+
+    private final GameWorld gameWorld;
+    private final Level level;
+
+    private LevelData data;
+    private TileMap map;
+    private Chunk[] chunks = new Chunk[0];
+    private int firstChunk;
+    private int centerChunk = Integer.MIN_VALUE;
+    private int activeCount = 0;
+
+    private static class Chunk {
+        final int index;
+        final IntArray entities; // [블록 인덱스, 칸] (LevelChunks 것을 그대로 참조)
+        final IntArray icons;    // [아이콘 인덱스]
+        final List<TerrainColliderBuilder.Outline> outlines; // 미리 계산된 지형 외곽선 (없으면 null)
+        boolean active;
+        Future<ChunkBuild> pending;
+        ChunkBuild build;
+        Body terrainBody;
+        final List<BlockObject> spawned = new ArrayList<>(); // 활성화할 때 만든 상자, 깃발, 표지판
+        final List<BlockObject> statics = new ArrayList<>(); // 지형과 함께 렌더 캐시에 기록할 블록
+
+        Chunk(int index, IntArray entities, IntArray icons, List<TerrainColliderBuilder.Outline> outlines) {
+            this.index = index;
+            this.entities = entities;
+            this.icons = icons;
+            this.outlines = outlines;
+        }
+    }
+
+    // 청크에서 Box2D 없이 만들 수 있는 부분 (백그라운드 스레드에서 준비)
+    private static class ChunkBuild {
+        final List<Icon> icons = new ArrayList<>();
+        List<TerrainColliderBuilder.Outline> outlines;
+    }
+
+    public LevelStreamer(GameWorld gameWorld, Level level) {
+        this.gameWorld = gameWorld;
+        this.level = level;
+    }
+
+    /**
+     * 청크를 백그라운드에서 미리 준비할지 정한다 (기본값 true).
+     * 프레임 예산이 없는 헤드리스 실행은 끄고, 청크가 들어올 때 그 자리에서 준비한다.
+     */
+    public static void setPrefetchEnabled(boolean enabled) {
+        prefetchEnabled = enabled;
+    }
+
+    private static synchronized ExecutorService prefetcher() {
+        if (prefetcher == null) {
+            prefetcher = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "LevelStreamer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return prefetcher;
+    }
+
+    /**
+     * 레벨 데이터를 청크로 나눈다. 아직 아무것도 월드에 올리지 않는다 (update에서 올린다)
+     * 이전 레벨의 객체는 GameWorld.loadLevel이 이미 월드에서 지웠다고 가정한다.
+     * 청크 색인과 지형 격자는 LevelData가 가진 것(.lvl에서 읽었거나 처음 요청 시 계산)을 쓴다.
+     */
+    public void load(LevelData data) {
+        cancelPrefetch();
+        this.data = data;
+        this.map = data.getTileMap();
+        centerChunk = Integer.MIN_VALUE;
+        activeCount = 0;
+
+        LevelChunks index = data.getChunks();
+        firstChunk = index.getFirst();
+        chunks = new Chunk[index.getCount()];
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new Chunk(firstChunk + i, index.getEntities(i), index.getIcons(i), index.getOutlines(i));
+        }
+    }
+
+    /**
+     * 기준 위치 주변 청크를 활성화하고 먼 청크를 비활성화한다. 매 틱 물리 스텝 전에 호출
+     * @param x 기준 X 좌표 (픽셀)
+     */
+    public void update(float x) {
+        int center = chunkOf(x);
+        if (center == centerChunk || chunks.length == 0) return;
+        centerChunk = center;
+
+        for (Chunk chunk : chunks) {
+            int distance = Math.abs(chunk.index - center);
+            if (chunk.active && distance > DEACTIVATE_RADIUS) deactivate(chunk);
+        }
+        for (int i = center - ACTIVE_RADIUS; i <= center + ACTIVE_RADIUS; i++) {
+            Chunk chunk = chunkAt(i);
+            if (chunk != null && !chunk.active) activate(chunk);
+        }
+
+        // 다음에 들어올 청크 준비, 멀어진 청크의 준비 결과는 버린다
+        for (Chunk chunk : chunks) {
+            int distance = Math.abs(chunk.index - center);
+            if (!chunk.active && distance <= PREFETCH_RADIUS) prefetch(chunk);
+            else if (!chunk.active && distance > DEACTIVATE_RADIUS) dropPrefetch(chunk);
+        }
+    }
+
+    private void activate(Chunk chunk) {
+        ChunkBuild build = takeBuild(chunk);
+
+        chunk.terrainBody = TerrainColliderBuilder.createBody(gameWorld.box2dWorld, build.outlines);
+        chunk.statics.clear();
+        for (Icon icon : build.icons) {
+            gameWorld.addInputIcons(icon);
+            level.getIconGrid().add(icon, icon.getX(), icon.getY());
+        }
+        chunk.build = build;
+
+        spawn(chunk);
+        // 움직이지 않는 깃발, 표지판은 지형과 같이 캐시에 기록
+        for (int i = 0; i < chunk.spawned.size(); i++) {
+            BlockObject entity = chunk.spawned.get(i);
+            if (entity.isStatic()) chunk.statics.add(entity);
+        }
+        gameWorld.getTerrainCache().setChunk(chunk.index, map, chunk.statics);
+
+        chunk.active = true;
+        activeCount++;
+    }
+
+    private void spawn(Chunk chunk) {
+        for (int i = 0; i < chunk.entities.size; i += 2) {
+            int b = chunk.entities.get(i);
+            float x = (data.blockX[b] + chunk.entities.get(i + 1)) * BlockObject.BlockWidth;
+            float y = data.blockY[b] * BlockObject.BlockHeight;
+            BlockObject entity = level.spawnEntity(data, b, x, y);
+            if (entity != null) chunk.spawned.add(entity);
+        }
+    }
+
+    private void deactivate(Chunk chunk) {
+        if (chunk.terrainBody != null) gameWorld.box2dWorld.destroyBody(chunk.terrainBody);
+        chunk.terrainBody = null;
+
+        for (Icon icon : chunk.build.icons) {
+            level.getIconGrid().remove(icon, icon.getX(), icon.getY());
+            gameWorld.removeInputIcon(icon);
+        }
+        for (int i = 0; i < chunk.spawned.size(); i++) {
+            level.despawnEntity(chunk.spawned.get(i));
+        }
+        chunk.spawned.clear();
+        gameWorld.getTerrainCache().removeChunk(chunk.index);
+
+        chunk.build = null;
+        chunk.statics.clear();
+        chunk.active = false;
+        activeCount--;
+    }
+
+    private void prefetch(final Chunk chunk) {
+        if (chunk.pending != null || !prefetchEnabled) return;
+        final LevelData levelData = data;
+        final TileMap tileMap = map;
+        chunk.pending = prefetcher().submit(new Callable<ChunkBuild>() {
+            @Override
+            public ChunkBuild call() {
+                return prepare(levelData, tileMap, chunk);
+            }
+        });
+    }
+
+    private void dropPrefetch(Chunk chunk) {
+        if (chunk.pending == null) return;
+        chunk.pending.cancel(false);
+        chunk.pending = null;
+    }
+
+    // 미리 준비된 결과가 있으면 사용하고 (진행 중이면 기다림), 없으면 여기서 만든다
+    private ChunkBuild takeBuild(Chunk chunk) {
+        Future<ChunkBuild> pending = chunk.pending;
+        chunk.pending = null;
+        if (pending != null && !pending.isCancelled()) {
+            try {
+                return pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new GdxRuntimeException("청크 준비 실패: " + chunk.index, e.getCause());
+            }
+        }
+        return prepare(data, map, chunk);
+    }
+
+    /**
+     * 청크의 지형 외곽선과 아이콘을 만든다. Box2D와 GL을 쓰지 않으므로 어느 스레드에서나 호출 가능
+     * (TileMap과 Assets는 읽기만 한다. 레벨 에셋은 load 전에 모두 올라와 있다)
+     */
+    private ChunkBuild prepare(LevelData data, TileMap map, Chunk chunk) {
+        ChunkBuild build = new ChunkBuild();
+        build.outlines = chunk.outlines;
+        if (build.outlines == null) {
+            int fromX = chunk.index * CHUNK_TILES;
+            build.outlines = new TerrainColliderBuilder().trace(map, fromX, fromX + CHUNK_TILES);
+        }
+
+        for (int i = 0; i < chunk.icons.size; i++) {
+            int icon = chunk.icons.get(i);
+            build.icons.add(new Icon(data.iconX[icon], data.iconY[icon], Assets.get(data.iconSprites[icon])));
+        }
+        return build;
+    }
+
+    /** 준비 중인 작업을 취소하고, 이미 실행 중인 작업이 끝날 때까지 기다린다 (레벨 에셋을 바꾸기 전에 호출) */
+    public void cancelPrefetch() {
+        for (Chunk chunk : chunks) {
+            dropPrefetch(chunk);
+        }
+        ExecutorService pool = prefetcher;
+        if (pool == null) return; // 아직 아무도 미리 준비하지 않았다
+        try {
+            pool.submit(new Runnable() {
+                @Override
+                public void run() {
+                }
+            }).get(); // 단일 스레드이므로 앞선 작업(다른 인스턴스 것 포함)이 모두 끝난 뒤 실행된다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    private Chunk chunkAt(int index) {
+        int i = index - firstChunk;
+        return i < 0 || i >= chunks.length ? null : chunks[i];
+    }
+
+    /** 픽셀 X 좌표가 속한 청크 번호 */
+    public static int chunkOf(float x) {
+        return (int) Math.floor(x / CHUNK_WIDTH);
+    }
+
+    public int getChunkCount() {
+        return chunks.length;
+    }
+
+    public int getActiveChunkCount() {
+        return activeCount;
+    }
+
+    // 공유 스레드는 종료하지 않는다 (다른 월드가 쓰고 있을 수 있다)
+    @Override
+    public void dispose() {
+        cancelPrefetch();
+    }
+}
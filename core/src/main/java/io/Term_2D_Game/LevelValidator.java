@@ -0,0 +1,105 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 레벨 JSON의 오류를 빌드 시에 찾는다 (LevelCompiler에서 실행, 런타임에는 검사하지 않는다).
+ *
+ * - 필수 항목(playerStart, levelSize, 블록 x/y/type/length) 누락
+ * - 알 수 없는 블록 type (런타임에는 조용히 무시된다)
+ * - 깃발의 nextLevel 누락 또는 없는 레벨 (GameWorld.clearedLevel에서 NPE), 표지판 message 누락
+ * - 한 칸에 블록 두 개
+ * - 에셋 폴더에 없는 Sprite 키 (블록, 자동 타일 조각, 입력 아이콘)
+ */
+public class LevelValidator {
+    public static final String GAME_CLEAR_LEVEL = "level_0"; // 마지막 레벨의 nextLevel (게임 클리어)
+
+    private final File assetsRoot;
+    private final Set<String> levelNames;
+
+    /**
+     * @param assetsRoot assets 폴더 (Sprite 파일 확인용)
+     * @param levelNames 존재하는 레벨 이름 (nextLevel 확인용)
+     */
+    public LevelValidator(File assetsRoot, Set<String> levelNames) {
+        this.assetsRoot = assetsRoot;
+        this.levelNames = levelNames;
+    }
+
+    /**
+     * 필수 항목을 먼저 확인하고, 빠진 것이 없으면 data에 root를 읽은 뒤 내용을 검사한다.
+     * @param name 레벨 이름 (메시지용)
+     * @param root 레벨 JSON
+     * @param data root를 읽어 둘 레벨 데이터 (필수 항목 오류가 있으면 읽지 않는다)
+     * @return 오류 메시지 목록 (없으면 빈 목록)
+     */
+    public List<String> validate(String name, JsonValue root, LevelData data) {
+        List<String> errors = new ArrayList<>();
+        if (!root.has("playerStart")) errors.add(name + ": playerStart가 없습니다");
+        if (!root.has("levelSize")) errors.add(name + ": levelSize가 없습니다");
+
+        JsonValue blocks = root.get("blocks");
+        int b = 0;
+        for (JsonValue block = blocks == null ? null : blocks.child; block != null; block = block.next, b++) {
+            if (!block.has("x") || !block.has("y") || !block.has("type") || !block.has("length")) {
+                errors.add(name + ": blocks[" + b + "] x, y, type, length 중 빠진 항목이 있습니다");
+            }
+        }
+        JsonValue icons = root.get("icons");
+        int i = 0;
+        for (JsonValue icon = icons == null ? null : icons.child; icon != null; icon = icon.next, i++) {
+            if (!icon.has("x") || !icon.has("y") || !icon.has("sprite")) {
+                errors.add(name + ": icons[" + i + "] x, y, sprite 중 빠진 항목이 있습니다");
+            }
+        }
+        if (!errors.isEmpty()) return errors;
+
+        data.readJson(root);
+        Set<Long> occupied = new HashSet<>();
+        boolean hasFlag = false;
+        b = 0;
+        for (JsonValue block = blocks == null ? null : blocks.child; block != null; block = block.next, b++) {
+            String where = name + ": blocks[" + b + "] (x=" + block.getInt("x") + ", y=" + block.getInt("y") + ")";
+
+            byte type = data.blockTypes[b];
+            if (type == LevelData.TYPE_UNKNOWN) {
+                errors.add(where + " 알 수 없는 type '" + block.getString("type") + "'");
+                continue;
+            }
+            if (data.blockLength[b] < 1) errors.add(where + " length가 1보다 작습니다");
+            if (type == LevelData.TYPE_FLAG) {
+                hasFlag = true;
+                String next = data.blockNextLevels[b];
+                if (next == null) errors.add(where + " 깃발에 nextLevel이 없습니다");
+                else if (!next.equals(GAME_CLEAR_LEVEL) && !levelNames.contains(next)) {
+                    errors.add(where + " nextLevel '" + next + "' 레벨이 없습니다");
+                }
+            }
+            if (type == LevelData.TYPE_SIGN && data.blockMessages[b] == null) {
+                errors.add(where + " 표지판에 message가 없습니다");
+            }
+
+            int x = (int) data.blockX[b];
+            int y = (int) data.blockY[b];
+            for (int cell = 0; cell < data.blockLength[b]; cell++) {
+                if (!occupied.add(((long) (x + cell) << 32) | (y & 0xffffffffL))) {
+                    errors.add(where + " 칸 (" + (x + cell) + ", " + y + ")에 다른 블록이 이미 있습니다");
+                }
+            }
+        }
+        if (!hasFlag) errors.add(name + ": 깃발(flag)이 없어 레벨을 끝낼 수 없습니다");
+
+        for (String key : data.getSpriteKeys()) {
+            if (!new File(assetsRoot, Assets.pathOf(key) + ".png").exists()) {
+                errors.add(name + ": Sprite '" + key + "' 파일이 없습니다 (" + Assets.pathOf(key) + ".png)");
+            }
+        }
+        return errors;
+    }
+}
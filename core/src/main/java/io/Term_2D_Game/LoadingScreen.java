@@ -0,0 +1,52 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+/**
+ * 에셋을 로드하는 동안 보여주는 진행 막대.
+ * 텍스처를 쓰지 않으므로 Assets가 아무것도 로드하지 않은 상태에서도 그릴 수 있다.
+ */
+public class LoadingScreen {
+    private static final float BAR_WIDTH = 480f;
+    private static final float BAR_HEIGHT = 16f;
+
+    private final Matrix4 screenMatrix = new Matrix4();
+    private final StringBuilder text = new StringBuilder();
+    private TextRun textRun; // 진행률이 바뀔 때만 레이아웃 계산
+
+    /**
+     * @param progress 0~1 사이 진행률
+     */
+    public void render(SpriteBatch batch, ShapeRenderer shapeRenderer, BitmapFont font, float progress) {
+        ScreenUtils.clear(0f, 0f, 0f, 1f);
+        float width = Gdx.graphics.getWidth();
+        float height = Gdx.graphics.getHeight();
+        float x = (width - BAR_WIDTH) / 2f;
+        float y = (height - BAR_HEIGHT) / 2f;
+        screenMatrix.setToOrtho2D(0, 0, width, height);
+
+        shapeRenderer.setProjectionMatrix(screenMatrix);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(Color.WHITE);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+
+        text.setLength(0);
+        text.append("Loading ").append((int) (progress * 100f)).append('%');
+        if (textRun == null) textRun = new TextRun(font);
+        textRun.setText(text, Color.WHITE, BAR_WIDTH, Align.center, false);
+        batch.setProjectionMatrix(screenMatrix);
+        batch.begin();
+        textRun.draw(batch, x, y + BAR_HEIGHT + textRun.getHeight() + 12f);
+        batch.end();
+    }
+}
@@ -3,16 +3,23 @@ package io.Term_2D_Game;
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import io.Term_2D_Game.Input.InputRecording;
 import io.Term_2D_Game.Player.Player;
 
 
@@ -25,9 +32,9 @@ public class Main extends ApplicationAdapter {
     private FadeEffect fadeEffect;
     private ShapeRenderer shapeRenderer;
     private BitmapFont uiFont;
-    private FreeTypeFontGenerator fontGenerator;
-    private GlyphLayout layout = new GlyphLayout();
+    private TextRun centerText; // PAUSE, GAME OVER (글자가 바뀔 때만 레이아웃 계산)
     private enum GameState{
+        LOADING,
         RUNNING,
         PAUSED,
         CLEARED,
@@ -36,61 +43,112 @@ public class Main extends ApplicationAdapter {
     }
     private GameState currentState;
     private CameraManager cameraManager;
+    private static final String REPLAY_DIR = "replays/";
+    private static final String QUICK_SAVE = "saves/quicksave." + WorldSnapshot.EXTENSION;
+
+    // 에셋 로딩 (프레임마다 LOAD_BUDGET_MS 만큼만 GPU 업로드를 진행하고 진행률을 그린다)
+    private static final String START_LEVEL = "level_1";
+    private static final int LOAD_BUDGET_MS = 10;
+    private LoadingScreen loadingScreen;
+    private LevelData startLevelData; // 로딩 화면 동안 첫 레벨 에셋을 잡아 두는 참조
+    private long loadStartTime;
+
+    // 성능 오버레이 (F2) / 프레임 CSV 기록 (F4)
+    private static final String TELEMETRY_DIR = "telemetry/";
+    private PerformanceMonitor performance;
+    private BitmapFont hudFont;
+    private final Matrix4 hudMatrix = new Matrix4();
+    private int frameStartRenderCalls = 0;
 
     @Override
     public void create() {
         batch = new SpriteBatch();
-        currentState = GameState.RUNNING;
-        Assets.load();
-        gameWorld = new GameWorld();
-        cameraManager = new CameraManager(gameWorld, batch);
         shapeRenderer = new ShapeRenderer();
+        uiFont = Fonts.get(32);
+        centerText = new TextRun(uiFont);
+
+        performance = new PerformanceMonitor(new GLProfiler(Gdx.graphics));
+        hudFont = Fonts.get(16);
+
+        // 공통 에셋과 첫 레벨이 참조하는 에셋만 대기열에 넣고, 로드는 render에서 나눠서 진행
+        loadStartTime = System.currentTimeMillis();
+        Assets.queueCommon();
+        startLevelData = Level.readLevelFile(START_LEVEL);
+        Assets.acquireLevel(startLevelData);
+        loadingScreen = new LoadingScreen();
+        currentState = GameState.LOADING;
+    }
+
+    // 로딩이 끝난 뒤 월드 생성
+    private void startGame() {
+        System.out.println("[Assets] Loaded in " + (System.currentTimeMillis() - loadStartTime) + " ms");
+        loadingScreen = null;
+        gameWorld = new GameWorld(START_LEVEL);
+        Assets.releaseLevel(startLevelData); // 이제 월드의 Level이 잡고 있다
+        startLevelData = null;
+        cameraManager = new CameraManager(gameWorld, batch);
         fadeEffect = new FadeEffect(WORLD_WIDTH, WORLD_HEIGHT);
         fadeEffect.startFadeIn();
-
-        fontGenerator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Galmuri14.ttf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter param = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        param.size = 32;
-        param.color = Color.WHITE;
-        param.borderWidth = 2f;
-        param.borderColor = Color.BLACK;
-        param.shadowOffsetX = 2;
-        param.shadowOffsetY = 2;
-        param.shadowColor = new Color(0, 0, 0, 0.5f);
-        uiFont = fontGenerator.generateFont(param);
+        currentState = GameState.RUNNING;
     }
 
     @Override
     public void render() {
+        if (currentState == GameState.LOADING) {
+            if (Assets.update(LOAD_BUDGET_MS)) startGame();
+            else {
+                loadingScreen.render(batch, shapeRenderer, hudFont, Assets.getProgress());
+                return;
+            }
+        }
+
         ScreenUtils.clear(1f, 1f, 1f, 1f);
         float delta = Gdx.graphics.getDeltaTime();
+        frameStartRenderCalls = batch.totalRenderCalls;
 
         input();
 
         if(currentState == GameState.RUNNING || currentState == GameState.CLEARED || currentState == GameState.DEAD){
+            performance.begin(PerformanceMonitor.Section.UPDATE);
             gameWorld.update(delta);
             cameraManager.updateCamera(delta);
+            performance.end(PerformanceMonitor.Section.UPDATE);
+            performance.add(PerformanceMonitor.Section.STEP, gameWorld.getStepNanos());
         }
         checkState();
         fadeEffect.update(delta);
         draw();
+
+        performance.setDrawCounts(gameWorld.getDrawnEntities(), gameWorld.getCulledEntities(),
+            gameWorld.getDrawnTerrainChunks(), gameWorld.getCulledTerrainChunks());
+        performance.endFrame(delta, batch.totalRenderCalls - frameStartRenderCalls,
+            gameWorld.box2dWorld.getBodyCount(), gameWorld.box2dWorld.getContactCount());
     }
 
     @Override
     public void dispose() {
+        performance.dispose();
         batch.dispose();
-        gameWorld.dispose();
+        shapeRenderer.dispose();
+        if (gameWorld != null) gameWorld.dispose(); // 로딩 중에 종료된 경우 null
+        if (fadeEffect != null) fadeEffect.dispose();
         Assets.dispose();
-        uiFont.dispose();
-        fontGenerator.dispose();
+        Fonts.dispose();
     }
 
     private void draw(){
+        Rectangle view = cameraManager.getViewBounds();
+        performance.begin(PerformanceMonitor.Section.DRAW);
+        gameWorld.drawStatic(batch.getProjectionMatrix(), view);
+
         batch.begin();
-        gameWorld.draw(batch);
+        gameWorld.draw(batch, view);
         batch.end();
+        performance.end(PerformanceMonitor.Section.DRAW);
 
-        fadeEffect.render(shapeRenderer, gameWorld.getPlayer().getBody().getPosition(), cameraManager.getCamera());
+        performance.begin(PerformanceMonitor.Section.FADE);
+        fadeEffect.render(gameWorld.getPlayer().getRenderPosition(), cameraManager.getCamera());
+        performance.end(PerformanceMonitor.Section.FADE);
 
         batch.begin();
         if (currentState == GameState.PAUSED) {
@@ -99,6 +157,10 @@ public class Main extends ApplicationAdapter {
             drawCenteredText(batch, "GAME OVER\n Press 'R' to Restart");
         }
         batch.end();
+
+        if (performance.isOverlayVisible()) {
+            drawPerformanceOverlay();
+        }
     }
 
     private void input() {
@@ -106,6 +168,27 @@ public class Main extends ApplicationAdapter {
             pause();
         }
 
+        if(Gdx.input.isKeyJustPressed((Input.Keys.F2))){
+            performance.toggleOverlay();
+        }
+
+        if(Gdx.input.isKeyJustPressed((Input.Keys.F4))){
+            if (performance.isRecording()) performance.stopCsv();
+            else performance.startCsv(Gdx.files.local(TELEMETRY_DIR + "frames_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".csv"));
+        }
+
+        if(Gdx.input.isKeyJustPressed((Input.Keys.F5))){
+            saveReplay();
+        }
+
+        if(Gdx.input.isKeyJustPressed((Input.Keys.F6))){
+            quickSave();
+        }
+
+        if(Gdx.input.isKeyJustPressed((Input.Keys.F9))){
+            quickLoad();
+        }
+
         if(currentState == GameState.RUNNING){
             if(Gdx.input.isKeyJustPressed((Input.Keys.R))){
                 fadeEffect.startFadeIn();
@@ -123,6 +206,49 @@ public class Main extends ApplicationAdapter {
         }
     }
 
+    // 현재 레벨 시작부터의 입력 기록을 저장 (HeadlessLauncher --replay 로 재현)
+    private void saveReplay(){
+        InputRecording recording = gameWorld.getInput().getRecording();
+        String time = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        FileHandle file = Gdx.files.local(REPLAY_DIR + recording.getLevel() + "_" + time + "." + InputRecording.EXTENSION);
+        try {
+            recording.save(file);
+            System.out.println("[Replay] Saved " + file.path() + " (" + recording.getTickCount() + " ticks, " + recording.getRunCount() + " runs)");
+        } catch (GdxRuntimeException e) {
+            System.out.println("[Replay] 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 현재 월드 상태를 파일 하나에 저장 (F9로 되돌림)
+    private void quickSave(){
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.capture(gameWorld);
+        FileHandle file = Gdx.files.local(QUICK_SAVE);
+        try {
+            snapshot.save(file);
+            System.out.println("[Snapshot] Saved " + file.path() + " (" + snapshot.size() + " bytes)");
+        } catch (GdxRuntimeException e) {
+            System.out.println("[Snapshot] 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private void quickLoad(){
+        FileHandle file = Gdx.files.local(QUICK_SAVE);
+        if (!file.exists()) {
+            System.out.println("[Snapshot] 저장된 상태 없음: " + file.path());
+            return;
+        }
+        try {
+            WorldSnapshot.load(file).restore(gameWorld);
+        } catch (GdxRuntimeException e) {
+            System.out.println("[Snapshot] 불러오기 실패: " + e.getMessage());
+            return;
+        }
+        currentState = gameWorld.getIsEnded() ? GameState.ENDED : GameState.RUNNING;
+        fadeEffect.setPauseOverlay(false);
+        System.out.println("[Snapshot] Loaded " + file.path());
+    }
+
     public void pause(){
         if(currentState == GameState.RUNNING){
             currentState = GameState.PAUSED;
@@ -158,13 +284,23 @@ public class Main extends ApplicationAdapter {
         }
     }
 
+    // 화면 왼쪽 위에 화면 좌표로 그린다
+    private void drawPerformanceOverlay() {
+        hudMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(hudMatrix);
+        batch.begin();
+        performance.drawOverlay(batch, hudFont, 10f, Gdx.graphics.getHeight() - 10f);
+        batch.end();
+        batch.setProjectionMatrix(cameraManager.getCamera().combined);
+    }
+
     private void drawCenteredText(SpriteBatch batch, String text) {
         OrthographicCamera camera = cameraManager.getCamera();
-        layout.setText(uiFont, text, Color.WHITE, 720f, Align.center, true);
+        centerText.setText(text, Color.WHITE, 720f, Align.center, true);
 
         float x = camera.position.x - 720f / 2f;
-        float y = camera.position.y + layout.height / 2f;
-        uiFont.draw(batch, layout, x, y);
+        float y = camera.position.y + centerText.getHeight() / 2f;
+        centerText.draw(batch, x, y);
     }
 
 }
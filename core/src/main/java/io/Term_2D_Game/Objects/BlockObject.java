@@ -7,11 +7,13 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.Collision;
 
 public abstract class BlockObject {
     public Vector2 position;
     public Sprite sprite;
     public Body body;
+    protected final Vector2 previousBodyPosition = new Vector2(); // 렌더 보간용 직전 틱 위치
 
     public static final float BlockWidth = 64f;
     public static final float BlockHeight = 64f;
@@ -28,14 +30,28 @@ public abstract class BlockObject {
      * @param isSensor 센서 블록 여부
      */
     public BlockObject(float x, float y, String spriteName, World box2dWorld, boolean isStatic, boolean isSensor) {
+        this(x, y, spriteName);
+        createBody(box2dWorld, isStatic, isSensor);
+    }
+
+    /**
+     * Body 없이 Sprite만 가지는 블록 생성자 (Body는 하위 클래스가 필요할 때 createBody로 생성)
+     * @param x 블록 X 좌표 (픽셀)
+     * @param y 블록 Y 좌표 (픽셀)
+     * @param spriteName JSON에서 가져온 키
+     */
+    public BlockObject(float x, float y, String spriteName) {
         this.position = new Vector2(x, y);
 
         this.sprite = new Sprite(Assets.get(spriteName));
         this.sprite.setSize(BlockWidth, BlockHeight);
         this.sprite.setPosition(x, y);
+    }
 
+    // position 위치에 블록 크기의 Body 생성 (레벨 리셋 시 다시 호출될 수 있음)
+    protected void createBody(World box2dWorld, boolean isStatic, boolean isSensor) {
         BodyDef bodyDef = new BodyDef();
-        bodyDef.position.set((x + BlockWidth / 2f) / PPM, (y + BlockHeight / 2f) / PPM);
+        bodyDef.position.set((position.x + BlockWidth / 2f) / PPM, (position.y + BlockHeight / 2f) / PPM);
         bodyDef.type = isStatic ? BodyDef.BodyType.StaticBody : BodyDef.BodyType.DynamicBody;
         this.body = box2dWorld.createBody(bodyDef);
 
@@ -45,17 +61,55 @@ public abstract class BlockObject {
         FixtureDef fixtureDef = new FixtureDef();
         fixtureDef.shape = shape;
         fixtureDef.isSensor = isSensor;
+        Collision.apply(fixtureDef.filter, getCategory());
         this.body.createFixture(fixtureDef);
+        previousBodyPosition.set(body.getPosition());
 
         shape.dispose();
     }
 
+    // 물리 스텝 직전에 호출 (움직이는 블록만)
+    public void savePreviousPosition() {
+        if (body != null) previousBodyPosition.set(body.getPosition());
+    }
+
     public void syncSpriteToBody() {
+        syncSpriteToBody(1f);
+    }
+
+    /**
+     * 직전 틱과 현재 틱 위치 사이를 보간해서 Sprite 위치를 맞춘다
+     * @param alpha 다음 틱까지 진행된 비율
+     */
+    public void syncSpriteToBody(float alpha) {
+        if (body == null) return;
         Vector2 pos = body.getPosition();
-        sprite.setPosition(pos.x * PPM - BlockWidth / 2f, pos.y * PPM - BlockHeight / 2f);
+        float x = previousBodyPosition.x + (pos.x - previousBodyPosition.x) * alpha;
+        float y = previousBodyPosition.y + (pos.y - previousBodyPosition.y) * alpha;
+        sprite.setPosition(x * PPM - BlockWidth / 2f, y * PPM - BlockHeight / 2f);
     }
 
+    /** 충돌 카테고리 (Collision의 비트 하나). ContactListener는 이 값으로 종류를 구분한다 */
+    public abstract short getCategory();
+
     public void draw(com.badlogic.gdx.graphics.g2d.SpriteBatch batch) {
         sprite.draw(batch);
     }
+
+    /**
+     * 움직이거나 사라지지 않는 블록이면 true.
+     * 정적 블록의 Sprite는 TerrainRenderCache에 한 번만 기록되고 draw()는 매 프레임 호출되지 않는다.
+     */
+    public boolean isStatic() {
+        return true;
+    }
+
+    /** 부서져서 Body가 꺼진 블록이면 true (LevelStreamer는 청크가 활성이어도 켜지 않는다) */
+    public boolean isDestroyed() {
+        return false;
+    }
+
+    // 캐시된 Sprite 위에 매 프레임 그려야 하는 내용 (표지판 말풍선 등)
+    public void drawOverlay(com.badlogic.gdx.graphics.g2d.SpriteBatch batch) {
+    }
 }
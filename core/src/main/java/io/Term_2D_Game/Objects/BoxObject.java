@@ -1,13 +1,19 @@
 package io.Term_2D_Game.Objects;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 
 import java.util.List;
 
+import io.Term_2D_Game.Collision;
 import io.Term_2D_Game.GameWorld;
 
+/**
+ * 공격으로 부서지는 상자. 부서져도 Body를 지우지 않고 끄기만 한다 (setActive).
+ * Body를 지웠다가 다시 만들면 Box2D Body 목록 순서가 새로 올린 레벨과 달라지므로,
+ * 재시작이나 스냅샷 복원 뒤에도 같은 순서를 유지해 리플레이가 새로 올린 월드와 같게 한다.
+ */
 public class BoxObject extends BlockObject {
+    private boolean destroyed = false;
 
     /**
      * @param x X 좌표 (픽셀)
@@ -22,18 +28,34 @@ public class BoxObject extends BlockObject {
         }
     }
 
+    // 공격으로 파괴되므로 매 프레임 그린다
     @Override
-    public void draw(SpriteBatch batch) {
-        syncSpriteToBody();
-        super.draw(batch);
+    public boolean isStatic() {
+        return false;
     }
 
-    public void destroy(World world, List<BlockObject> blocks) {
-        if (body != null) {
-            world.destroyBody(body); // Box2D Body 제거
-            body = null;             // 참조 제거
+    @Override
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    // 레벨 리셋이나 스냅샷 복원 시 파괴된 상자 복구 (활성 청크에 올라와 있는 상자만 해당)
+    public void restore() {
+        if (!destroyed) return;
+        destroyed = false;
+        body.setActive(true);
+    }
+
+    public void destroy(List<BlockObject> blocks) {
+        if (!destroyed) {
+            destroyed = true;
+            body.setActive(false); // 접촉과 broadphase에서 빠진다
         }
         blocks.remove(this);
     }
-}
 
+    @Override
+    public short getCategory() {
+        return Collision.BOX;
+    }
+}
@@ -3,6 +3,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
 
+import io.Term_2D_Game.Collision;
+
 public class FlagObject extends BlockObject {
     /**
      * @param x X 좌표 (픽셀)
@@ -26,5 +28,9 @@ public class FlagObject extends BlockObject {
     public void interact() {
 
     }
-}
 
+    @Override
+    public short getCategory() {
+        return Collision.FLAG;
+    }
+}
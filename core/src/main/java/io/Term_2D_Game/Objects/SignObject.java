@@ -1,20 +1,19 @@
 package io.Term_2D_Game.Objects;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+
+import io.Term_2D_Game.Collision;
+import io.Term_2D_Game.Fonts;
+import io.Term_2D_Game.TextRun;
 
 public class SignObject extends BlockObject {
     private boolean isVisible = false;
     private String message;
     //private TextureRegion bubble;
-    FreeTypeFontGenerator generator = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Galmuri14.ttf"));
-    BitmapFont font;
+    BitmapFont font; // Fonts에서 공유하는 폰트 (직접 dispose 하지 않음)
+    private final TextRun bubbleText; // 메시지 레이아웃과 글리프 정점 (한 번만 계산)
 
     private float offsetY = 35f; // 말풍선 y 오프셋
     /**
@@ -25,19 +24,11 @@ public class SignObject extends BlockObject {
      */
     public SignObject(float x, float y, World box2dWorld ,String message) {
         super(x, y, "sign", box2dWorld, true, true);
-        FreeTypeFontParameter parameter = new FreeTypeFontParameter();
-        parameter.size = 16;                   // 폰트 크기
-        parameter.color = Color.WHITE;         // 색상
-        parameter.borderWidth = 2f;            // 테두리 두께
-        parameter.borderColor = Color.BLACK;   // 테두리 색상
-        parameter.shadowOffsetX = 2;           // 그림자 X 오프셋
-        parameter.shadowOffsetY = 2;           // 그림자 Y 오프셋
-        parameter.shadowColor = new Color(0, 0, 0, 0.5f); // 그림자 색
-        parameter.characters = FreeTypeFontGenerator.DEFAULT_CHARS + message;
-        font = generator.generateFont(parameter);
-        generator.dispose();
+        font = Fonts.get(16);
+        Fonts.addGlyphs(font, message); // 메시지 글자만 공유 아틀라스에 추가
 
         this.message = message;
+        bubbleText = new TextRun(font);
         body.setUserData(this);
         for (Fixture f : body.getFixtureList()) {
             f.setUserData(this);
@@ -48,6 +39,11 @@ public class SignObject extends BlockObject {
     public void draw(SpriteBatch batch) {
         syncSpriteToBody();
         super.draw(batch);
+        drawOverlay(batch);
+    }
+
+    @Override
+    public void drawOverlay(SpriteBatch batch) {
         if(isVisible){
             drawSpeechBubble(batch);
         }
@@ -61,15 +57,23 @@ public class SignObject extends BlockObject {
         isVisible = false;
     }
 
+    public boolean isVisible() {
+        return isVisible;
+    }
+
     private void drawSpeechBubble(SpriteBatch batch) {
         float x = this.position.x;
         float y = this.position.y + offsetY;
 
         // 텍스트 중앙정렬
-        GlyphLayout layout = new GlyphLayout(font, message);
-        float textX = x - layout.width / 6f;
-        float textY = y + layout.height + BlockHeight;
-        font.draw(batch, layout, textX, textY);
+        bubbleText.setText(message);
+        float textX = x - bubbleText.getWidth() / 6f;
+        float textY = y + bubbleText.getHeight() + BlockHeight;
+        bubbleText.draw(batch, textX, textY);
     }
-}
 
+    @Override
+    public short getCategory() {
+        return Collision.SIGN;
+    }
+}
@@ -0,0 +1,312 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 프레임 시간과 구간별(update, step, draw, fade) 소요 시간, 렌더/물리 카운터, GC/할당량을 모은다.
+ * 화면 오버레이(0.5초마다 갱신)로 보여주고, 켜져 있으면 프레임마다 한 줄씩 CSV로 기록한다.
+ * GL 카운터(draw call, 텍스처 바인딩, 셰이더 전환)는 오버레이나 CSV 기록이 켜져 있는 동안만 GLProfiler로 센다.
+ * 매 프레임 경로에서는 객체를 만들지 않는다 (측정 자체가 할당률을 흐리지 않도록).
+ */
+public class PerformanceMonitor {
+    public enum Section {
+        UPDATE, STEP, DRAW, FADE
+    }
+
+    private static final int HISTORY = 600; // 최근 프레임 수 (60fps 기준 10초)
+    private static final float REFRESH_INTERVAL = 0.5f;
+    private static final String CSV_HEADER = "frame,frameMs,updateMs,stepMs,drawMs,fadeMs,renderCalls,drawCalls,textureBindings,shaderSwitches,"
+        + "drawnEntities,culledEntities,drawnChunks,culledChunks,bodies,contacts,gcCount,gcMs,allocKB\n";
+
+    // 프레임 시간 기록 (ms)
+    private final float[] frameTimes = new float[HISTORY];
+    private final float[] sorted = new float[HISTORY];
+    private long frameCount = 0;
+
+    // 이번 프레임 구간 시간
+    private final long[] sectionStart = new long[Section.values().length];
+    private final long[] sectionNanos = new long[Section.values().length];
+
+    // 오버레이 갱신 구간 누적값
+    private final long[] windowSectionNanos = new long[Section.values().length];
+    private int windowFrames = 0;
+    private long windowRenderCalls = 0;
+    private long windowDrawCalls = 0;
+    private long windowTextureBindings = 0;
+    private long windowShaderSwitches = 0;
+    private long windowGcCount = 0;
+    private long windowGcMillis = 0;
+    private long windowAllocBytes = 0;
+    private float windowTime = 0f;
+    private int bodies, contacts;
+    private int drawnEntities, culledEntities, drawnChunks, culledChunks;
+    private final StringBuilder text = new StringBuilder();
+    private boolean overlayVisible = false;
+
+    // GL 호출 수
+    private final GLProfiler profiler;
+
+    // GC / 할당량 (HotSpot이 아니면 할당량은 -1)
+    private final GarbageCollectorMXBean[] collectors;
+    private final ThreadMXBean threadBean;
+    private final boolean allocationSupported;
+    private long lastGcCount, lastGcMillis, lastAllocBytes;
+
+    // CSV 기록
+    private Writer csv;
+    private final StringBuilder row = new StringBuilder();
+    private char[] rowChars = new char[256];
+
+    public PerformanceMonitor(GLProfiler profiler) {
+        this.profiler = profiler;
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors = beans.toArray(new GarbageCollectorMXBean[0]);
+        threadBean = ManagementFactory.getThreadMXBean();
+        allocationSupported = threadBean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+        lastGcCount = gcCount();
+        lastGcMillis = gcMillis();
+        lastAllocBytes = allocatedBytes();
+        text.append("...");
+    }
+
+    public void begin(Section section) {
+        sectionStart[section.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Section section) {
+        sectionNanos[section.ordinal()] += System.nanoTime() - sectionStart[section.ordinal()];
+    }
+
+    // 다른 곳에서 잰 시간을 더한다 (GameWorld의 물리 스텝 시간 등)
+    public void add(Section section, long nanos) {
+        sectionNanos[section.ordinal()] += nanos;
+    }
+
+    /**
+     * 이번 프레임의 컬링 결과. endFrame 전에 호출
+     * @param drawnEntities 그린 엔티티(블록, 아이콘, 이펙트) 수
+     * @param culledEntities 스트리밍된 엔티티 중 화면 밖이라 건너뛴 수
+     * @param drawnChunks 그린 지형 청크 수
+     * @param culledChunks 스트리밍된 지형 청크 중 화면 밖이라 건너뛴 수
+     */
+    public void setDrawCounts(int drawnEntities, int culledEntities, int drawnChunks, int culledChunks) {
+        this.drawnEntities = drawnEntities;
+        this.culledEntities = culledEntities;
+        this.drawnChunks = drawnChunks;
+        this.culledChunks = culledChunks;
+    }
+
+    /**
+     * 프레임 마지막에 호출
+     * @param delta 이번 프레임 시간 (초)
+     * @param renderCalls 이번 프레임의 SpriteBatch flush 수
+     * @param bodyCount Box2D Body 수
+     * @param contactCount Box2D Contact 수
+     */
+    public void endFrame(float delta, int renderCalls, int bodyCount, int contactCount) {
+        float frameMs = delta * 1000f;
+        frameTimes[(int) (frameCount % HISTORY)] = frameMs;
+        frameCount++;
+
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocBytes = allocatedBytes();
+        long frameGcCount = gcCount - lastGcCount;
+        long frameGcMillis = gcMillis - lastGcMillis;
+        long frameAlloc = allocationSupported ? allocBytes - lastAllocBytes : -1;
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        lastAllocBytes = allocBytes;
+
+        int drawCalls = profiler.getDrawCalls();
+        int textureBindings = profiler.getTextureBindings();
+        int shaderSwitches = profiler.getShaderSwitches();
+        profiler.reset();
+
+        if (csv != null) {
+            writeRow(frameMs, renderCalls, drawCalls, textureBindings, shaderSwitches, bodyCount, contactCount,
+                frameGcCount, frameGcMillis, frameAlloc);
+        }
+
+        for (int i = 0; i < sectionNanos.length; i++) {
+            windowSectionNanos[i] += sectionNanos[i];
+            sectionNanos[i] = 0;
+        }
+        windowFrames++;
+        windowRenderCalls += renderCalls;
+        windowDrawCalls += drawCalls;
+        windowTextureBindings += textureBindings;
+        windowShaderSwitches += shaderSwitches;
+        windowGcCount += frameGcCount;
+        windowGcMillis += frameGcMillis;
+        windowAllocBytes += Math.max(0, frameAlloc);
+        windowTime += delta;
+        bodies = bodyCount;
+        contacts = contactCount;
+
+        if (windowTime >= REFRESH_INTERVAL) refreshText();
+    }
+
+    private void refreshText() {
+        int count = (int) Math.min(frameCount, HISTORY);
+        System.arraycopy(frameTimes, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+
+        text.setLength(0);
+        text.append("frame ms  p50 ").append(round(percentile(count, 0.5f)))
+            .append("  p95 ").append(round(percentile(count, 0.95f)))
+            .append("  p99 ").append(round(percentile(count, 0.99f)))
+            .append("  max ").append(round(sorted[count - 1])).append('\n');
+        text.append("update ").append(round(averageMs(Section.UPDATE)))
+            .append("  step ").append(round(averageMs(Section.STEP)))
+            .append("  draw ").append(round(averageMs(Section.DRAW)))
+            .append("  fade ").append(round(averageMs(Section.FADE))).append(" ms\n");
+        text.append("renderCalls ").append(round(windowRenderCalls / (float) windowFrames))
+            .append("  drawCalls ").append(round(windowDrawCalls / (float) windowFrames))
+            .append("  textures ").append(round(windowTextureBindings / (float) windowFrames))
+            .append("  shaders ").append(round(windowShaderSwitches / (float) windowFrames)).append('\n');
+        text.append("entities ").append(drawnEntities).append(" (culled ").append(culledEntities).append(')')
+            .append("  chunks ").append(drawnChunks).append(" (culled ").append(culledChunks).append(')')
+            .append("  bodies ").append(bodies)
+            .append("  contacts ").append(contacts).append('\n');
+        text.append("gc ").append(windowGcCount).append(" (").append(windowGcMillis).append(" ms)");
+        if (allocationSupported) text.append("  alloc ").append(round(windowAllocBytes / 1024f / windowTime)).append(" KB/s");
+        if (csv != null) text.append("  [REC]");
+
+        for (int i = 0; i < windowSectionNanos.length; i++) windowSectionNanos[i] = 0;
+        windowFrames = 0;
+        windowRenderCalls = 0;
+        windowDrawCalls = 0;
+        windowTextureBindings = 0;
+        windowShaderSwitches = 0;
+        windowGcCount = 0;
+        windowGcMillis = 0;
+        windowAllocBytes = 0;
+        windowTime = 0f;
+    }
+
+    private float percentile(int count, float p) {
+        return sorted[Math.min(count - 1, (int) (p * count))];
+    }
+
+    private float averageMs(Section section) {
+        return windowSectionNanos[section.ordinal()] / 1e6f / windowFrames;
+    }
+
+    // 소수점 둘째 자리까지 (문자열 포맷 없이)
+    private static float round(float value) {
+        return Math.round(value * 100f) / 100f;
+    }
+
+    public void drawOverlay(SpriteBatch batch, BitmapFont font, float x, float y) {
+        font.draw(batch, text, x, y);
+    }
+
+    public boolean toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        updateProfiler();
+        return overlayVisible;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    // CSV 기록 시작 (프레임마다 한 줄)
+    public void startCsv(FileHandle file) {
+        stopCsv();
+        try {
+            csv = new BufferedWriter(file.writer(false, "UTF-8"), 64 * 1024);
+            csv.write(CSV_HEADER);
+            System.out.println("[Perf] Recording " + file.path());
+        } catch (Exception e) {
+            System.out.println("[Perf] CSV 기록 실패: " + e.getMessage());
+            csv = null;
+        }
+        updateProfiler();
+    }
+
+    public void stopCsv() {
+        if (csv == null) return;
+        try {
+            csv.close();
+        } catch (IOException e) {
+            System.out.println("[Perf] CSV 닫기 실패: " + e.getMessage());
+        }
+        csv = null;
+        updateProfiler();
+        System.out.println("[Perf] Recording stopped");
+    }
+
+    public boolean isRecording() {
+        return csv != null;
+    }
+
+    // GLProfiler는 GL 호출마다 비용이 있으므로 보여주거나 기록할 때만 켠다
+    private void updateProfiler() {
+        boolean enabled = overlayVisible || csv != null;
+        if (enabled == profiler.isEnabled()) return;
+        if (enabled) profiler.enable();
+        else profiler.disable();
+        profiler.reset();
+    }
+
+    private void writeRow(float frameMs, int renderCalls, int drawCalls, int textureBindings, int shaderSwitches,
+                          int bodyCount, int contactCount, long gcCount, long gcMillis, long allocBytes) {
+        row.setLength(0);
+        row.append(frameCount).append(',').append(frameMs);
+        for (long nanos : sectionNanos) row.append(',').append(nanos / 1e6f);
+        row.append(',').append(renderCalls).append(',').append(drawCalls).append(',').append(textureBindings)
+            .append(',').append(shaderSwitches)
+            .append(',').append(drawnEntities).append(',').append(culledEntities)
+            .append(',').append(drawnChunks).append(',').append(culledChunks)
+            .append(',').append(bodyCount).append(',').append(contactCount)
+            .append(',').append(gcCount).append(',').append(gcMillis)
+            .append(',').append(allocBytes < 0 ? -1 : allocBytes / 1024).append('\n');
+
+        if (rowChars.length < row.length()) rowChars = new char[row.length() * 2];
+        row.getChars(0, row.length(), rowChars, 0);
+        try {
+            csv.write(rowChars, 0, row.length());
+        } catch (IOException e) {
+            System.out.println("[Perf] CSV 기록 실패: " + e.getMessage());
+            stopCsv();
+        }
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : collectors) count += Math.max(0, collector.getCollectionCount());
+        return count;
+    }
+
+    private long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : collectors) millis += Math.max(0, collector.getCollectionTime());
+        return millis;
+    }
+
+    private long allocatedBytes() {
+        if (!allocationSupported) return 0;
+        return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public void dispose() {
+        stopCsv();
+        overlayVisible = false;
+        updateProfiler();
+    }
+}
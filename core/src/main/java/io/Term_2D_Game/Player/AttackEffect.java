@@ -1,18 +1,16 @@
 package io.Term_2D_Game.Player;
 
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.math.Vector2;
 
 import io.Term_2D_Game.Assets;
 
 public class AttackEffect extends PlayerEffect {
     private Animation<TextureRegion> anim;
-    private boolean lookingRight;
 
-    public AttackEffect(Vector2 pos, float lifeTime, boolean lookingRight) {
-        super(pos, lifeTime);
+    @Override
+    public void init(float x, float y, float lifeTime, boolean lookingRight) {
+        super.init(x, y, lifeTime, lookingRight);
         this.anim = Assets.getAnimation("attack_effect");
-        this.lookingRight = lookingRight;
         anim.setFrameDuration(0.1f);
     }
 
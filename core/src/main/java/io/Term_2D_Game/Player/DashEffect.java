@@ -1,18 +1,16 @@
 package io.Term_2D_Game.Player;
 
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.math.Vector2;
 
 import io.Term_2D_Game.Assets;
 
 public class DashEffect extends PlayerEffect {
     private Animation<TextureRegion> anim;
-    private boolean lookingRight;
 
-    public DashEffect(Vector2 pos, float lifeTime, boolean lookingRight) {
-        super(pos, lifeTime);
+    @Override
+    public void init(float x, float y, float lifeTime, boolean lookingRight) {
+        super.init(x, y, lifeTime, lookingRight);
         this.anim = Assets.getAnimation("dash_effect");
-        this.lookingRight = lookingRight;
         anim.setFrameDuration(0.05f);
     }
 
@@ -1,7 +1,5 @@
 package io.Term_2D_Game.Player;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -9,9 +7,14 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.Collision;
 import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.Input.Action;
+import io.Term_2D_Game.Input.PlayerInput;
 import io.Term_2D_Game.Objects.*;
 
+import java.nio.ByteBuffer;
+
 public class Player {
     public enum State {
         IDLE, WALK, JUMP, FALL, ATTACK, WALL_SLIDE, DASH, INTERACT, LOOK_UP, SPAWN, CLEARED, DEAD
@@ -27,10 +30,13 @@ public class Player {
     private static final float HEIGHT = 96f;
     private static final float PPM = 100f;
 
+    // 렌더 보간 (직전 틱 위치와 현재 위치 사이를 alpha로 보간해서 그림, 미터 단위)
+    private final Vector2 previousPosition = new Vector2();
+    private final Vector2 renderPosition = new Vector2();
+
     // 이동 관련
     private Vector2 velocity;
-    private static final float MOVE_SPEED = 2.0f;
-    private static final float JUMP_FORCE = 4.5f;
+    private final PlayerTuning tuning; // 이동 속도, 점프, 대시 수치
     private final float MAX_JUMP_TIME = 0.35f;
     private boolean jumpPressed = false;
     private float jumpTime = 0f;
@@ -58,11 +64,23 @@ public class Player {
     private boolean isContactFlag = false;
     private boolean isCleared = false;
 
+    // 스냅샷 복원 뒤 접촉 수를 Box2D 접촉에 다시 맞추기 (beforeStep 참고)
+    private boolean contactResyncPending = false;
+    private boolean resyncingContacts = false;
+    private int resyncGroundContacts = 0; // 복원한 바닥 접촉 수 (다시 오는 시작 이벤트를 착지로 보지 않도록)
+
     // 공격
     private boolean isAttacking = false;
     private final float ATTACK_DURATION = 0.25f;
     private float attackTimer = 0f;
-    private Fixture attackSensor;
+    private Fixture attackSensor; // 현재 켜져 있는 공격 센서 (없으면 null)
+    private Fixture attackSensorLeft, attackSensorRight;
+    // 공격 센서는 Body 생성 시 미리 만들어 두고 필터로 켜고 끈다 (maskBits 0이면 아무것과도 충돌하지 않음)
+    private static final Filter ATTACK_SENSOR_ON = Collision.apply(new Filter(), Collision.ATTACK_SENSOR);
+    private static final Filter ATTACK_SENSOR_OFF = Collision.apply(new Filter(), Collision.ATTACK_SENSOR);
+    static {
+        ATTACK_SENSOR_OFF.maskBits = 0;
+    }
 
     // 대시
     private boolean isDashing = false;
@@ -72,14 +90,21 @@ public class Player {
     private final float DASH_ANIM_DURATION = 0.25f; // 대시 애니메이션 유지시간
     private float dashAnimTimer = 0f;
     private boolean dashDirectionRight = false; // 대시 방향 (좌,우 / false,true)
-    private final float DASH_SPEED = 5.0f;
 
     // 스폰 및 리스폰
     private final float SPAWN_DURATION = 0.7f;
     private float spawnTimer = 0f;
 
     public Player(World world, Vector2 startPosition, GameWorld gameWorld) {
+        this(world, startPosition, gameWorld, new PlayerTuning());
+    }
+
+    /**
+     * @param tuning 이동 수치 (참조를 그대로 보관)
+     */
+    public Player(World world, Vector2 startPosition, GameWorld gameWorld, PlayerTuning tuning) {
         this.gameWorld = gameWorld;
+        this.tuning = tuning;
         velocity = new Vector2();
         respawn(startPosition, world);
     }
@@ -109,6 +134,7 @@ public class Player {
         bodyDefCommon.density = 1f;
         bodyDefCommon.friction = 0f;
         bodyDefCommon.restitution = 0f;
+        Collision.apply(bodyDefCommon.filter, Collision.PLAYER);
 
         // ---- 메인 바디 구성 (캡슐형) ----
         createEdgeFixture(body, -R, H_RECT_HALF, bodyDefCommon);
@@ -118,11 +144,17 @@ public class Player {
 
         // ---- 센서 ----
         // 바닥 센서
-        createSensorBox(body, (WIDTH / 6f) / PPM, H_SENSOR_HALF, 0, -(HEIGHT / 2.8f / PPM), "footSensor");
+        createSensorBox(body, (WIDTH / 6f) / PPM, H_SENSOR_HALF, 0, -(HEIGHT / 2.8f / PPM), Collision.FOOT_SENSOR);
 
         // 좌우 벽 감지 센서
-        createSensorBox(body, 2f / PPM, (HEIGHT / 5f) / PPM, -(R + 1f / PPM) , - R / 2f, "leftSensor");
-        createSensorBox(body, 2f / PPM, (HEIGHT / 5f) / PPM,  (R + 1f / PPM), - R / 2f, "rightSensor");
+        createSensorBox(body, 2f / PPM, (HEIGHT / 5f) / PPM, -(R + 1f / PPM) , - R / 2f, Collision.LEFT_WALL_SENSOR);
+        createSensorBox(body, 2f / PPM, (HEIGHT / 5f) / PPM,  (R + 1f / PPM), - R / 2f, Collision.RIGHT_WALL_SENSOR);
+
+        // 좌우 공격 센서 (꺼진 상태)
+        attackSensorLeft = createSensorBox(body, 0.3f, 0.3f, -0.5f, -0.1f, Collision.ATTACK_SENSOR);
+        attackSensorRight = createSensorBox(body, 0.3f, 0.3f, 0.5f, -0.1f, Collision.ATTACK_SENSOR);
+        attackSensorLeft.setFilterData(ATTACK_SENSOR_OFF);
+        attackSensorRight.setFilterData(ATTACK_SENSOR_OFF);
     }
 
 
@@ -145,18 +177,22 @@ public class Player {
         circle.dispose();
     }
 
-    // 센서
-    private void createSensorBox(Body body, float hx, float hy, float cx, float cy, String name) {
+    // 센서 (종류는 카테고리 비트로 구분)
+    private Fixture createSensorBox(Body body, float hx, float hy, float cx, float cy, short category) {
         PolygonShape sensor = new PolygonShape();
         sensor.setAsBox(hx, hy, new Vector2(cx, cy), 0);
         FixtureDef def = new FixtureDef();
         def.shape = sensor;
         def.isSensor = true;
-        body.createFixture(def).setUserData(name);
+        Collision.apply(def.filter, category);
+        Fixture fixture = body.createFixture(def);
+        fixture.setUserData(this);
         sensor.dispose();
+        return fixture;
     }
 
     public void update(float delta) {
+        if (resyncingContacts) finishContactResync();
         stateTime += delta;
 
         if(currentState == State.SPAWN){
@@ -192,10 +228,7 @@ public class Player {
 
             if(attackTimer > ATTACK_DURATION){
                 isAttacking = false;
-                if (attackSensor != null) {
-                    body.destroyFixture(attackSensor);
-                    attackSensor = null;
-                }
+                disableAttackSensor();
             }
             return;
         }
@@ -226,8 +259,8 @@ public class Player {
             body.setGravityScale(0f); // 대시 중 중력 제거
             dashAnimTimer += delta;
             setState(State.DASH);
-            float offsetX = dashDirectionRight ? DASH_SPEED : -DASH_SPEED; // 바라보는 방향
-            velocity.x = MOVE_SPEED * offsetX;
+            float offsetX = dashDirectionRight ? tuning.dashSpeed : -tuning.dashSpeed; // 바라보는 방향
+            velocity.x = tuning.moveSpeed * offsetX;
             velocity.y = 0f;
             if(dashAnimTimer > DASH_ANIM_DURATION){
                 isDashing = false;
@@ -251,22 +284,22 @@ public class Player {
         if (!lookingRight && !frame.isFlipX()) frame.flip(true, false);
         else if (lookingRight && frame.isFlipX()) frame.flip(true, false);
 
-        Vector2 pos = body.getPosition();
+        Vector2 pos = renderPosition;
         batch.draw(frame, pos.x * PPM - WIDTH / 2f, pos.y * PPM - HEIGHT / 2f, WIDTH, HEIGHT);
         drawWallTimerBar(batch);
     }
 
-    // 바닥 센서 충돌 시작
-    public void onBeginContact(Fixture other) {
-        if (other == null) return;
-        Object data = other.getUserData();
-
+    /**
+     * 바닥 센서 충돌 시작
+     * @param other 상대 Fixture
+     * @param category 상대 충돌 카테고리 (바닥 센서 마스크: 밟을 수 있는 블록, Flag, Sign)
+     */
+    public void onBeginContact(Fixture other, short category) {
         // Box, Stone, Sand 블럭만 바닥 충돌 판정
-        if (data instanceof BoxObject ||
-            data instanceof StoneObject ||
-            data instanceof SandObject) {
-
+        if ((category & Collision.GROUND) != 0) {
             groundContacts++;
+            // 복원 전부터 서 있던 바닥을 Box2D가 다시 알려 준 것이면 착지 처리는 하지 않는다
+            if (resyncingContacts && resyncGroundContacts > 0) return;
             onWallTimer = 0f;
             isGrounded = true;
             if(jumpBufferTimer > 0f){
@@ -274,93 +307,61 @@ public class Player {
                 jumpBuffer = true;
             }
         }
-
         // Flag 충돌 판정
-        if(data instanceof FlagObject){
-            if(!isContactFlag){
-                isContactFlag = true;
-            }
+        else if (category == Collision.FLAG) {
+            isContactFlag = true;
         }
-
         // Sign 충돌 판정
-        if(data instanceof SignObject){
-            ((SignObject) data).showMessage();
+        else if (category == Collision.SIGN) {
+            ((SignObject) other.getUserData()).showMessage();
         }
     }
 
     // 바닥 센서 충돌 종료
-    public void onEndContact(Fixture other) {
-        if (other == null) return;
-        Object data = other.getUserData();
-
+    public void onEndContact(Fixture other, short category) {
         // Box, Stone, Sand 블럭만 바닥 충돌 판정
-        if (data instanceof BoxObject ||
-            data instanceof StoneObject ||
-            data instanceof SandObject) {
-
+        if ((category & Collision.GROUND) != 0) {
             groundContacts = Math.max(0, groundContacts - 1);
             if (groundContacts == 0){
                 isGrounded = false;
             }
         }
-
         // Flag 충돌 판정
-        if(data instanceof FlagObject){
-            if(isContactFlag){
-                isContactFlag = false;
-            }
+        else if (category == Collision.FLAG) {
+            isContactFlag = false;
         }
-
         // Sign 충돌 판정
-        if(data instanceof SignObject){
-            ((SignObject) data).hideMessage();
+        else if (category == Collision.SIGN) {
+            ((SignObject) other.getUserData()).hideMessage();
         }
     }
 
-    // 벽 타기 충돌 검사
-    public void onBeginWallContact(Fixture other, boolean isLeft) {
-        if (other == null) return;
-        Object data = other.getUserData();
-
-        // 벽 타기는 Stone만 가능
-        if (data instanceof StoneObject) {
-            if(isLeft){
-                leftWallContacts++;
-            }
-            else {
-                rightWallContacts++;
-            }
+    // 벽 타기 충돌 검사 (벽 센서 마스크가 Stone만 통과시킨다)
+    public void onBeginWallContact(boolean isLeft) {
+        if(isLeft){
+            leftWallContacts++;
+        }
+        else {
+            rightWallContacts++;
         }
     }
 
     // 충돌 종료
-    public void onEndWallContact(Fixture other, boolean isLeft) {
-        if (other == null) return;
-        Object data = other.getUserData();
-
-        // 벽 타기는 Stone만 가능
-        if (data instanceof StoneObject) {
-            if(isLeft){
-                leftWallContacts = Math.max(0, leftWallContacts - 1);
-            }
-            else {
-                rightWallContacts = Math.max(0,rightWallContacts - 1);
-            }
-            if(leftWallContacts == 0 && rightWallContacts == 0){
-                isOnWall = false;
-            }
+    public void onEndWallContact(boolean isLeft) {
+        if(isLeft){
+            leftWallContacts = Math.max(0, leftWallContacts - 1);
+        }
+        else {
+            rightWallContacts = Math.max(0,rightWallContacts - 1);
+        }
+        if(leftWallContacts == 0 && rightWallContacts == 0){
+            isOnWall = false;
         }
     }
 
-    // 공격
+    // 공격 (공격 센서 마스크가 부술 수 있는 블록만 통과시킨다)
     public void onBeginAttackContact(Fixture other) {
-        if (other == null) return;
-        Object data = other.getUserData();
-
-        // 박스 개체는 부수기 가능
-        if (data instanceof BoxObject) {
-            gameWorld.addDestroyBox((BoxObject) data);
-        }
+        gameWorld.addDestroyBox((BoxObject) other.getUserData());
     }
 
     public void setState(State newState) {
@@ -382,16 +383,17 @@ public class Player {
     public void handleInput(float delta) {
         velocity.set(0, body.getLinearVelocity().y);
 
-        boolean left = Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT);
-        boolean right = Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT);
+        PlayerInput input = gameWorld.getInput();
+        boolean left = input.isPressed(Action.LEFT);
+        boolean right = input.isPressed(Action.RIGHT);
 
         if (left && !right) moveLeft();
         else if (right && !left) moveRight();
         else stopMovingX();
 
         if(isOnWall){
-            boolean up = Gdx.input.isKeyPressed(Input.Keys.W) || Gdx.input.isKeyPressed(Input.Keys.UP);
-            boolean down = Gdx.input.isKeyPressed(Input.Keys.S) || Gdx.input.isKeyPressed(Input.Keys.DOWN);
+            boolean up = input.isPressed(Action.UP);
+            boolean down = input.isPressed(Action.DOWN);
 
             if (up && !down) moveUp();
             else if (down && !up) moveDown();
@@ -399,57 +401,228 @@ public class Player {
         }
 
         // 점프 처리
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || jumpBuffer) {
+        if (input.isJustPressed(Action.JUMP) || jumpBuffer) {
             jump();
             jumpBuffer = false;
         }
 
         // 점프 길이 조절
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE) && jumpPressed) {
+        if (input.isPressed(Action.JUMP) && jumpPressed) {
             controlJumpHeight(delta);
         }
 
-        if (!Gdx.input.isKeyPressed(Input.Keys.SPACE)) {
+        if (!input.isPressed(Action.JUMP)) {
             jumpPressed = false;
         }
 
         // 상호 작용
-        if(Gdx.input.isKeyPressed(Input.Keys.E) || Gdx.input.isKeyPressed(Input.Keys.C)){
+        if(input.isPressed(Action.INTERACT)){
             interact();
         }
 
         // 공격
-        if(Gdx.input.isKeyJustPressed(Input.Keys.Z) || Gdx.input.isButtonJustPressed(0)){
+        if(input.isJustPressed(Action.ATTACK)){
             attack();
         }
 
         // 대시
-        if(Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT)){
+        if(input.isPressed(Action.DASH)){
             dash();
         }
     }
 
-    // 리스폰
+    // 리스폰 (월드의 Body가 모두 제거된 뒤 새 Body 생성)
     public void respawn(Vector2 startPos, World world) {
+        attackSensor = null; // 이전 Body와 함께 제거됨
         createBody(world, startPos);
+        resetState();
+    }
+
+    // 레벨 리셋: Body를 다시 만들지 않고 시작 위치로 옮긴 뒤 상태만 초기화
+    public void reset(Vector2 startPos) {
+        disableAttackSensor();
+        body.setTransform((startPos.x + WIDTH / 2f) / PPM, (startPos.y + HEIGHT / 2f) / PPM, 0);
+        body.setGravityScale(1f);
+        body.setAwake(true);
+        resetState();
+    }
 
-        body.setLinearVelocity(MOVE_SPEED / 1.5f, 0);
+    private void resetState() {
+        velocity.setZero();
+        isAttacking = false;
+        attackTimer = 0f;
+        isDashing = false;
+        isOnWall = false;
+        onWallTimer = 0f;
+        jumpPressed = false;
+        jumpBuffer = false;
+        jumpBufferTimer = 0f;
+        wallJumpBufferTimer = 0f;
+
+        body.setLinearVelocity(tuning.moveSpeed / 1.5f, 0);
         body.setAngularVelocity(0);
         //body.setGravityScale(0f); // 스폰 중에는 중력 영향 X
         lookingRight = true;
         isGrounded = false;
         groundContacts = 0;
+        contactResyncPending = false;
+        resyncingContacts = false;
         spawnTimer = 0f;
         dashTimer = 0f;
         isCanDash = true;
         setState(State.SPAWN);
+
+        // 순간이동이므로 보간하지 않는다
+        previousPosition.set(body.getPosition());
+        renderPosition.set(previousPosition);
+    }
+
+    // writeState/readState의 플래그 비트 (순서를 바꾸면 저장된 스냅샷과 맞지 않는다)
+    private static final int FLAG_LOOKING_RIGHT = 1 << 0;
+    private static final int FLAG_JUMP_PRESSED = 1 << 1;
+    private static final int FLAG_JUMP_BUFFER = 1 << 2;
+    private static final int FLAG_GROUNDED = 1 << 3;
+    private static final int FLAG_ON_WALL = 1 << 4;
+    private static final int FLAG_CONTACT_FLAG = 1 << 5;
+    private static final int FLAG_CLEARED = 1 << 6;
+    private static final int FLAG_ATTACKING = 1 << 7;
+    private static final int FLAG_DASHING = 1 << 8;
+    private static final int FLAG_CAN_DASH = 1 << 9;
+    private static final int FLAG_DASH_RIGHT = 1 << 10;
+    private static final int FLAG_SENSOR_LEFT = 1 << 11;
+    private static final int FLAG_SENSOR_RIGHT = 1 << 12;
+
+    /** WorldSnapshot용: Body 위치/속도와 모든 타이머, 플래그, 접촉 수 */
+    public void writeState(ByteBuffer out) {
+        Vector2 position = body.getPosition();
+        Vector2 linearVelocity = body.getLinearVelocity();
+        out.putFloat(position.x).putFloat(position.y).putFloat(body.getAngle());
+        out.putFloat(linearVelocity.x).putFloat(linearVelocity.y).putFloat(body.getGravityScale());
+        out.putFloat(previousPosition.x).putFloat(previousPosition.y);
+        out.putFloat(velocity.x).putFloat(velocity.y);
+
+        out.put((byte) currentState.ordinal());
+        out.putFloat(stateTime);
+        int flags = (lookingRight ? FLAG_LOOKING_RIGHT : 0)
+            | (jumpPressed ? FLAG_JUMP_PRESSED : 0)
+            | (jumpBuffer ? FLAG_JUMP_BUFFER : 0)
+            | (isGrounded ? FLAG_GROUNDED : 0)
+            | (isOnWall ? FLAG_ON_WALL : 0)
+            | (isContactFlag ? FLAG_CONTACT_FLAG : 0)
+            | (isCleared ? FLAG_CLEARED : 0)
+            | (isAttacking ? FLAG_ATTACKING : 0)
+            | (isDashing ? FLAG_DASHING : 0)
+            | (isCanDash ? FLAG_CAN_DASH : 0)
+            | (dashDirectionRight ? FLAG_DASH_RIGHT : 0)
+            | (attackSensor == attackSensorLeft ? FLAG_SENSOR_LEFT : 0)
+            | (attackSensor == attackSensorRight ? FLAG_SENSOR_RIGHT : 0);
+        out.putShort((short) flags);
+        out.putFloat(jumpTime).putFloat(jumpBufferTimer).putFloat(wallJumpBufferTimer).putFloat(onWallTimer);
+        out.putFloat(attackTimer).putFloat(dashTimer).putFloat(dashAnimTimer).putFloat(spawnTimer);
+        out.put((byte) groundContacts).put((byte) leftWallContacts).put((byte) rightWallContacts);
+    }
+
+    /**
+     * WorldSnapshot 복원. Box2D 접촉은 저장할 수 없으므로 Body를 껐다 켜서 기존 접촉을 지우고 스냅샷 위치로 옮기기만 한다 (물리 스텝 없음).
+     * 접촉에서 나온 상태(접촉 수, 깃발 접촉)는 스냅샷 값을 쓰고, 다음 스텝에서 Box2D 접촉에 다시 맞춘다 (beforeStep).
+     */
+    public void readState(ByteBuffer in) {
+        float x = in.getFloat();
+        float y = in.getFloat();
+        float angle = in.getFloat();
+        float velocityX = in.getFloat();
+        float velocityY = in.getFloat();
+        float gravityScale = in.getFloat();
+        float previousX = in.getFloat();
+        float previousY = in.getFloat();
+        velocity.set(in.getFloat(), in.getFloat());
+
+        State state = State.values()[in.get()];
+        float time = in.getFloat();
+        int flags = in.getShort();
+
+        // 접촉이 모두 지워지며 나가는 종료 이벤트로 바뀐 필드는 아래에서 스냅샷 값으로 덮어쓴다
+        body.setActive(false);
+        disableAttackSensor();
+        if ((flags & FLAG_SENSOR_LEFT) != 0) attackSensor = attackSensorLeft;
+        else if ((flags & FLAG_SENSOR_RIGHT) != 0) attackSensor = attackSensorRight;
+        if (attackSensor != null) attackSensor.setFilterData(ATTACK_SENSOR_ON);
+        body.setTransform(x, y, angle);
+        body.setActive(true);
+        // Box2D는 Fixture가 새로 생긴 뒤에만 스텝 시작에서 접촉 쌍을 찾는다 (setActive, setTransform으로는 스텝 끝에서야 찾음).
+        // 아무것과도 충돌하지 않는 센서를 붙였다 떼어 다음 스텝이 충돌 판정 전에 현재 위치의 접촉 쌍을 찾게 한다
+        attachContactProbe();
+        body.setLinearVelocity(velocityX, velocityY);
+        body.setGravityScale(gravityScale);
+        body.setAwake(true);
+        previousPosition.set(previousX, previousY);
+
+        setState(state);
+        stateTime = time;
+        lookingRight = (flags & FLAG_LOOKING_RIGHT) != 0;
+        jumpPressed = (flags & FLAG_JUMP_PRESSED) != 0;
+        jumpBuffer = (flags & FLAG_JUMP_BUFFER) != 0;
+        isGrounded = (flags & FLAG_GROUNDED) != 0;
+        isOnWall = (flags & FLAG_ON_WALL) != 0;
+        isContactFlag = (flags & FLAG_CONTACT_FLAG) != 0;
+        isCleared = (flags & FLAG_CLEARED) != 0;
+        isAttacking = (flags & FLAG_ATTACKING) != 0;
+        isDashing = (flags & FLAG_DASHING) != 0;
+        isCanDash = (flags & FLAG_CAN_DASH) != 0;
+        dashDirectionRight = (flags & FLAG_DASH_RIGHT) != 0;
+        jumpTime = in.getFloat();
+        jumpBufferTimer = in.getFloat();
+        wallJumpBufferTimer = in.getFloat();
+        onWallTimer = in.getFloat();
+        attackTimer = in.getFloat();
+        dashTimer = in.getFloat();
+        dashAnimTimer = in.getFloat();
+        spawnTimer = in.getFloat();
+        groundContacts = in.get();
+        leftWallContacts = in.get();
+        rightWallContacts = in.get();
+        contactResyncPending = true;
+        resyncingContacts = false;
+    }
+
+    /**
+     * 물리 스텝 직전에 호출. 스냅샷 복원 뒤 첫 스텝에서는 닿아 있는 접촉마다 시작 이벤트가 다시 오므로 접촉 수를 0부터 다시 센다.
+     */
+    public void beforeStep() {
+        if (!contactResyncPending) return;
+        contactResyncPending = false;
+        resyncGroundContacts = groundContacts;
+        groundContacts = 0;
+        leftWallContacts = 0;
+        rightWallContacts = 0;
+        isContactFlag = false;
+        resyncingContacts = true;
+    }
+
+    // Box2D는 붙일 때 모양을 복사하므로 모양은 바로 해제한다
+    private void attachContactProbe() {
+        CircleShape shape = new CircleShape();
+        shape.setRadius(1f / PPM);
+        FixtureDef def = new FixtureDef();
+        def.shape = shape;
+        def.isSensor = true;
+        def.filter.maskBits = 0;
+        body.destroyFixture(body.createFixture(def));
+        shape.dispose();
+    }
+
+    // 다시 센 뒤에도 닿아 있지 않으면 종료 이벤트가 온 것과 같게 처리
+    private void finishContactResync() {
+        resyncingContacts = false;
+        if (groundContacts == 0) isGrounded = false;
+        if (leftWallContacts == 0 && rightWallContacts == 0) isOnWall = false;
     }
 
     // 이동 관련 함수들
     // 공격 중엔 벽타기 불가
     public void moveLeft() {
         if(dashDirectionRight) isDashing = false; // 대시 중 반대 방향키 입력으로 캔슬 가능
-        velocity.x = -MOVE_SPEED;
+        velocity.x = -tuning.moveSpeed;
         lookingRight = false;
 
         if(isOnWall && onWallTimer < ON_WALL_DURATION){
@@ -461,7 +634,7 @@ public class Player {
 
     public void moveRight() {
         if(!dashDirectionRight) isDashing = false; // 대시 중 반대 방향키 입력으로 캔슬 가능
-        velocity.x = MOVE_SPEED;
+        velocity.x = tuning.moveSpeed;
         lookingRight = true;
 
         if(isOnWall && onWallTimer < ON_WALL_DURATION){
@@ -475,11 +648,11 @@ public class Player {
         velocity.x = 0;
     }
     public void moveUp() {
-        velocity.y = MOVE_SPEED * 0.5f;
+        velocity.y = tuning.moveSpeed * 0.5f;
     }
 
     public void moveDown() {
-        velocity.y = -MOVE_SPEED * 0.5f;
+        velocity.y = -tuning.moveSpeed * 0.5f;
     }
 
     public void stopMovingY() {
@@ -497,13 +670,13 @@ public class Player {
         }
         jumpPressed = true;
         jumpTime = 0f;
-        velocity.y = JUMP_FORCE;
+        velocity.y = tuning.jumpForce;
         isGrounded = false;
     }
 
     public void controlJumpHeight(float delta){
         if (jumpTime < MAX_JUMP_TIME) {
-            velocity.y = JUMP_FORCE;
+            velocity.y = tuning.jumpForce;
             jumpTime += delta;
         }
     }
@@ -531,8 +704,9 @@ public class Player {
 
         dashDirectionRight = lookingRight;
 
-        Vector2 pos = new Vector2(body.getPosition().x * 100f, body.getPosition().y * 100f);
-        gameWorld.addEffect(new DashEffect(pos, 0.3f, lookingRight));
+        DashEffect effect = gameWorld.obtainEffect(DashEffect.class);
+        effect.init(body.getPosition().x * PPM, body.getPosition().y * PPM, 0.3f, lookingRight);
+        gameWorld.addEffect(effect);
     }
 
     // 상호작용
@@ -552,21 +726,18 @@ public class Player {
         isAttacking = true;
         attackTimer = 0f;
 
-        PolygonShape attackShape = new PolygonShape();
-        float offsetX = lookingRight ? 0.5f : -0.5f; // 바라보는 방향
-        attackShape.setAsBox(0.3f, 0.3f, new Vector2(offsetX, -0.1f), 0);
+        attackSensor = lookingRight ? attackSensorRight : attackSensorLeft; // 바라보는 방향
+        attackSensor.setFilterData(ATTACK_SENSOR_ON);
 
-        FixtureDef def = new FixtureDef();
-        def.shape = attackShape;
-        def.isSensor = true;
-
-        attackSensor = body.createFixture(def);
-        attackSensor.setUserData("attackSensor");
-
-        attackShape.dispose();
+        AttackEffect effect = gameWorld.obtainEffect(AttackEffect.class);
+        effect.init(body.getPosition().x * PPM, body.getPosition().y * PPM, ATTACK_DURATION, lookingRight);
+        gameWorld.addEffect(effect);
+    }
 
-        Vector2 pos = new Vector2(body.getPosition().x * 100f, body.getPosition().y * 100f);
-        gameWorld.addEffect(new AttackEffect(pos, ATTACK_DURATION, lookingRight));
+    private void disableAttackSensor() {
+        if (attackSensor == null) return;
+        attackSensor.setFilterData(ATTACK_SENSOR_OFF);
+        attackSensor = null;
     }
 
     // 벽타기 스태미너 시각화
@@ -576,7 +747,7 @@ public class Player {
         float ratio = 1f - (onWallTimer / ON_WALL_DURATION);
         ratio = Math.max(0f, Math.min(1f, ratio));
 
-        Vector2 pos = body.getPosition();
+        Vector2 pos = renderPosition;
         float barWidth = WIDTH;
         float barHeight = 4f;
 
@@ -594,10 +765,31 @@ public class Player {
         batch.setColor(1f, 1f, 1f, 1f);
     }
 
+    public PlayerTuning getTuning() {
+        return tuning;
+    }
+
     public Body getBody() {
         return body;
     }
 
+    // 물리 스텝 직전에 호출 (보간 시작점)
+    public void savePreviousPosition() {
+        previousPosition.set(body.getPosition());
+    }
+
+    /**
+     * @param alpha 다음 틱까지 진행된 비율 (0 = 직전 틱, 1 = 현재 틱)
+     */
+    public void updateRenderPosition(float alpha) {
+        renderPosition.set(previousPosition).lerp(body.getPosition(), alpha);
+    }
+
+    // 화면에 그려지는 위치 (미터 단위, 카메라와 이펙트가 사용)
+    public Vector2 getRenderPosition() {
+        return renderPosition;
+    }
+
     public boolean isGrounded() {
         return isGrounded;
     }
@@ -606,6 +798,28 @@ public class Player {
         return currentState;
     }
 
+    public boolean isOnWall() {
+        return isOnWall;
+    }
+
+    // 벽 타기에 쓴 시간 (ON_WALL_DURATION이 되면 더 붙어 있을 수 없다)
+    public float getOnWallTimer() {
+        return onWallTimer;
+    }
+
+    public boolean canDash() {
+        return isCanDash;
+    }
+
+    // 대시 쿨타임 경과 시간 (canDash가 false인 동안만 흐른다)
+    public float getDashTimer() {
+        return dashTimer;
+    }
+
+    public boolean isContactFlag() {
+        return isContactFlag;
+    }
+
     public Boolean getIsCleared(){
         return this.isCleared;
     }
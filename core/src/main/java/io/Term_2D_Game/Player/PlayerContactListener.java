@@ -3,65 +3,79 @@ package io.Term_2D_Game.Player;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.*;
 
-public class PlayerContactListener implements ContactListener {
-    @Override
-    public void beginContact(Contact contact) {
-        checkContact(contact.getFixtureA(), contact.getFixtureB(), true);
-        checkContact(contact.getFixtureB(), contact.getFixtureA(), true);
-    }
+import io.Term_2D_Game.Collision;
 
-    @Override
-    public void endContact(Contact contact) {
-        checkContact(contact.getFixtureA(), contact.getFixtureB(), false);
-        checkContact(contact.getFixtureB(), contact.getFixtureA(), false);
+/**
+ * 플레이어 센서 충돌을 카테고리 인덱스별 핸들러 테이블로 전달한다.
+ * 센서가 감지할 상대는 Collision 마스크로 이미 걸러져 있으므로 여기서는 문자열/instanceof 비교 없이 바로 호출한다.
+ */
+public class PlayerContactListener implements ContactListener {
+    private interface SensorHandler {
+        void handle(Player player, Fixture other, short otherCategory, boolean begin);
     }
 
-    private void checkContact(Fixture sensor, Fixture other, boolean begin) {
-        if (sensor == null || other == null) return;
-        if (sensor.getUserData() == null) return;
-
+    // 센서 카테고리 인덱스 -> 핸들러 (센서가 아닌 카테고리는 null)
+    private static final SensorHandler[] HANDLERS = new SensorHandler[Collision.COUNT];
+    static {
         // 바닥 감지
-        if ("footSensor".equals(sensor.getUserData())) {
-            Body body = sensor.getBody();
-            Object userData = body.getUserData();
-
-            if (userData instanceof Player) {
-                Player player = (Player) userData;
-                if (begin) player.onBeginContact(other);
-                else player.onEndContact(other);
+        HANDLERS[Collision.index(Collision.FOOT_SENSOR)] = new SensorHandler() {
+            @Override
+            public void handle(Player player, Fixture other, short otherCategory, boolean begin) {
+                if (begin) player.onBeginContact(other, otherCategory);
+                else player.onEndContact(other, otherCategory);
             }
-        }
-
+        };
         // 왼쪽 감지
-        if("leftSensor".equals(sensor.getUserData())){
-            Body body = sensor.getBody();
-            Object userData = body.getUserData();
-            if (userData instanceof Player) {
-                Player player = (Player) userData;
-                if (begin) player.onBeginWallContact(other, true);
-                else player.onEndWallContact(other, true);
+        HANDLERS[Collision.index(Collision.LEFT_WALL_SENSOR)] = new SensorHandler() {
+            @Override
+            public void handle(Player player, Fixture other, short otherCategory, boolean begin) {
+                if (begin) player.onBeginWallContact(true);
+                else player.onEndWallContact(true);
             }
-        }
-
+        };
         // 오른쪽 감지
-        if("rightSensor".equals(sensor.getUserData())){
-            Body body = sensor.getBody();
-            Object userData = body.getUserData();
-            if (userData instanceof Player) {
-                Player player = (Player) userData;
-                if (begin) player.onBeginWallContact(other, false);
-                else player.onEndWallContact(other, false);
+        HANDLERS[Collision.index(Collision.RIGHT_WALL_SENSOR)] = new SensorHandler() {
+            @Override
+            public void handle(Player player, Fixture other, short otherCategory, boolean begin) {
+                if (begin) player.onBeginWallContact(false);
+                else player.onEndWallContact(false);
             }
-        }
-
-        if("attackSensor".equals(sensor.getUserData())){
-            Body body = sensor.getBody();
-            Object userData = body.getUserData();
-            if (userData instanceof Player) {
-                Player player = (Player) userData;
+        };
+        // 공격
+        HANDLERS[Collision.index(Collision.ATTACK_SENSOR)] = new SensorHandler() {
+            @Override
+            public void handle(Player player, Fixture other, short otherCategory, boolean begin) {
                 if (begin) player.onBeginAttackContact(other);
             }
-        }
+        };
+    }
+
+    @Override
+    public void beginContact(Contact contact) {
+        dispatch(contact, true);
+    }
+
+    @Override
+    public void endContact(Contact contact) {
+        dispatch(contact, false);
+    }
+
+    private void dispatch(Contact contact, boolean begin) {
+        Fixture a = contact.getFixtureA();
+        Fixture b = contact.getFixtureB();
+        if (a == null || b == null) return;
+
+        // getFilterData()는 Fixture에 캐시된 Filter를 돌려준다 (필터를 바꾸기 전까지 JNI 호출 없음)
+        short categoryA = a.getFilterData().categoryBits;
+        short categoryB = b.getFilterData().categoryBits;
+        if ((categoryA & Collision.PLAYER_SENSORS) != 0) checkContact(a, categoryA, b, categoryB, begin);
+        if ((categoryB & Collision.PLAYER_SENSORS) != 0) checkContact(b, categoryB, a, categoryA, begin);
+    }
+
+    private void checkContact(Fixture sensor, short sensorCategory, Fixture other, short otherCategory, boolean begin) {
+        Object userData = sensor.getUserData();
+        if (!(userData instanceof Player)) return;
+        HANDLERS[Collision.index(sensorCategory)].handle((Player) userData, other, otherCategory, begin);
     }
 
     @Override public void preSolve(Contact contact, Manifold oldManifold) {}
@@ -1,17 +1,42 @@
 package io.Term_2D_Game.Player;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
-public abstract class PlayerEffect {
-    protected Vector2 pos;
+import java.nio.ByteBuffer;
+
+/**
+ * 대시/공격 이펙트. 자주 생기고 사라지므로 풀로 재사용한다 (GameWorld.obtainEffect로 꺼내고, 끝나면 GameWorld가 반환).
+ */
+public abstract class PlayerEffect implements Pool.Poolable {
+    // 이펙트는 pos 기준으로 좌우 오프셋을 두고 그려지므로 화면 판정 시 여유를 둔다
+    private static final float CULL_MARGIN = 256f;
+
+    protected final Vector2 pos = new Vector2();
     protected float elapsed;
     protected float lifeTime;
     protected boolean finished;
+    protected boolean lookingRight;
 
-    public PlayerEffect(Vector2 pos, float lifeTime) {
-        this.pos = pos;
+    /**
+     * Pool에서 꺼낸 뒤 호출
+     * @param x 픽셀 좌표
+     * @param y 픽셀 좌표
+     * @param lifeTime 지속 시간 (초)
+     * @param lookingRight 플레이어가 오른쪽을 보고 있는지
+     */
+    public void init(float x, float y, float lifeTime, boolean lookingRight) {
+        this.pos.set(x, y);
         this.lifeTime = lifeTime;
+        this.lookingRight = lookingRight;
+    }
+
+    @Override
+    public void reset() {
+        elapsed = 0f;
+        finished = false;
     }
 
     public void update(float delta) {
@@ -23,6 +48,29 @@ public abstract class PlayerEffect {
         return finished;
     }
 
+    /** WorldSnapshot용 상태 (이펙트 종류는 GameWorld가 앞에 쓴다) */
+    public void writeState(ByteBuffer out) {
+        out.putFloat(pos.x).putFloat(pos.y).putFloat(elapsed).putFloat(lifeTime);
+        out.put((byte) ((finished ? 1 : 0) | (lookingRight ? 2 : 0)));
+    }
+
+    // Pool에서 꺼낸 이펙트에 스냅샷 상태를 적용한다 (init으로 애니메이션도 다시 연결)
+    public void readState(ByteBuffer in) {
+        float x = in.getFloat();
+        float y = in.getFloat();
+        float elapsed = in.getFloat();
+        float lifeTime = in.getFloat();
+        byte flags = in.get();
+        init(x, y, lifeTime, (flags & 2) != 0);
+        this.elapsed = elapsed;
+        this.finished = (flags & 1) != 0;
+    }
+
+    public boolean isVisible(Rectangle view) {
+        return pos.x > view.x - CULL_MARGIN && pos.x < view.x + view.width + CULL_MARGIN
+            && pos.y > view.y - CULL_MARGIN && pos.y < view.y + view.height + CULL_MARGIN;
+    }
+
     public abstract void render(SpriteBatch batch);
 }
 
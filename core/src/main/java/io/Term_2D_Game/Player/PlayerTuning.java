@@ -0,0 +1,29 @@
+package io.Term_2D_Game.Player;
+
+/**
+ * 플레이어 이동 수치. 기본값이 게임에서 쓰는 값이다.
+ * 월드마다 따로 가지므로 헤드리스 시뮬레이션에서 값을 바꿔 가며 여러 월드를 동시에 돌릴 수 있다.
+ */
+public class PlayerTuning {
+    public static final float DEFAULT_MOVE_SPEED = 2.0f;
+    public static final float DEFAULT_JUMP_FORCE = 4.5f;
+    public static final float DEFAULT_DASH_SPEED = 5.0f;
+
+    public float moveSpeed = DEFAULT_MOVE_SPEED; // 좌우 이동 속도 (m/s)
+    public float jumpForce = DEFAULT_JUMP_FORCE; // 점프 중 위쪽 속도 (m/s)
+    public float dashSpeed = DEFAULT_DASH_SPEED; // 대시 속도 (moveSpeed의 배수)
+
+    public PlayerTuning() {
+    }
+
+    public PlayerTuning(float moveSpeed, float jumpForce, float dashSpeed) {
+        this.moveSpeed = moveSpeed;
+        this.jumpForce = jumpForce;
+        this.dashSpeed = dashSpeed;
+    }
+
+    @Override
+    public String toString() {
+        return "moveSpeed=" + moveSpeed + " jumpForce=" + jumpForce + " dashSpeed=" + dashSpeed;
+    }
+}
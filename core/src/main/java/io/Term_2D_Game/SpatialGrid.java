@@ -0,0 +1,98 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.Term_2D_Game.Objects.BlockObject;
+
+/**
+ * 타일(64px) 단위 균일 그리드. 화면에 보이는 영역의 객체만 빠르게 찾기 위해 사용한다.
+ * 객체는 왼쪽 아래 좌표가 속한 칸 하나에만 들어가고, 조회 시 QUERY_MARGIN 만큼 영역을 넓혀
+ * 여러 칸에 걸친 객체(말풍선, 이펙트 등)도 놓치지 않는다.
+ */
+public class SpatialGrid<T> {
+    public static final float CELL_SIZE = BlockObject.BlockWidth;
+    private static final int QUERY_MARGIN = 4; // 칸 단위
+
+    private int cols, rows;
+    private List<List<T>> cells = new ArrayList<>();
+    private int size;
+
+    /** 레벨 크기에 맞춰 그리드를 비운다 */
+    public void reset(float width, float height) {
+        cols = Math.max(1, (int) Math.ceil(width / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil(height / CELL_SIZE));
+        int count = cols * rows;
+
+        for (List<T> cell : cells) {
+            if (cell != null) cell.clear();
+        }
+        while (cells.size() < count) cells.add(null);
+        size = 0;
+    }
+
+    public void add(T item, float x, float y) {
+        int index = cellIndex(x, y);
+        List<T> cell = cells.get(index);
+        if (cell == null) {
+            cell = new ArrayList<>(4);
+            cells.set(index, cell);
+        }
+        cell.add(item);
+        size++;
+    }
+
+    public boolean remove(T item, float x, float y) {
+        List<T> cell = cells.get(cellIndex(x, y));
+        if (cell != null && cell.remove(item)) {
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 영역과 겹칠 수 있는 객체를 out에 추가한다.
+     * @return 추가한 객체 수
+     */
+    public int query(Rectangle area, List<T> out) {
+        int minX = clampCol((int) Math.floor(area.x / CELL_SIZE) - QUERY_MARGIN);
+        int maxX = clampCol((int) Math.floor((area.x + area.width) / CELL_SIZE));
+        int minY = clampRow((int) Math.floor(area.y / CELL_SIZE) - QUERY_MARGIN);
+        int maxY = clampRow((int) Math.floor((area.y + area.height) / CELL_SIZE));
+
+        int found = 0;
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                List<T> cell = cells.get(y * cols + x);
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size(); i++) {
+                    out.add(cell.get(i)); // addAll은 toArray 복사본을 만든다
+                }
+                found += cell.size();
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 레벨 밖 좌표는 가장자리 칸으로
+    private int cellIndex(float x, float y) {
+        int cx = clampCol((int) Math.floor(x / CELL_SIZE));
+        int cy = clampRow((int) Math.floor(y / CELL_SIZE));
+        return cy * cols + cx;
+    }
+
+    private int clampCol(int x) {
+        return Math.max(0, Math.min(cols - 1, x));
+    }
+
+    private int clampRow(int y) {
+        return Math.max(0, Math.min(rows - 1, y));
+    }
+}
@@ -0,0 +1,236 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.FloatArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.Term_2D_Game.Objects.BlockObject;
+
+/**
+ * 지형 타일(Sand, Stone)을 재질별 ChainShape 외곽선으로 합쳐 충돌체를 만든다.
+ * 타일마다 Body를 만들지 않으므로 broadphase 프록시 수가 크게 줄고,
+ * 타일 경계에서 걸리는 현상(ghost collision)도 사라진다.
+ *
+ * TileMap의 일부 열 범위(청크)만 외곽선으로 만들 수 있고, 범위 밖 칸은 TileMap에서 조회하므로
+ * 지형 안쪽의 청크 경계에는 벽이 생기지 않는다.
+ * 청크 경계나 다른 재질에서 끊기는 열린 외곽선은 이어지는 이웃 외곽선의 꼭짓점을 고스트 꼭짓점으로 붙여
+ * 끊긴 자리에서도 걸리지 않게 한다.
+ * 외곽선 계산(trace)은 Box2D를 쓰지 않으므로 백그라운드 스레드에서 할 수 있고,
+ * Body 생성(createBody)만 물리 스레드에서 한다.
+ */
+public class TerrainColliderBuilder {
+    // 외곽선 방향 (+x, +y, -x, -y)
+    private static final int[] DIR_X = {1, 0, -1, 0};
+    private static final int[] DIR_Y = {0, 1, 0, -1};
+
+    /** 외곽선 하나 (미터 단위 꼭짓점) */
+    public static class Outline {
+        public final float[] vertices;
+        public final boolean loop;
+        public final byte material;
+        // 열린 외곽선의 앞뒤로 이어지는 이웃 외곽선의 꼭짓점 [x, y] (이어지는 면이 없으면 null)
+        public final float[] prevVertex;
+        public final float[] nextVertex;
+
+        Outline(float[] vertices, boolean loop, byte material, float[] prevVertex, float[] nextVertex) {
+            this.vertices = vertices;
+            this.loop = loop;
+            this.material = material;
+            this.prevVertex = prevVertex;
+            this.nextVertex = nextVertex;
+        }
+    }
+
+    private final List<Outline> outlines = new ArrayList<>();
+
+    // 외곽선을 만드는 칸 범위
+    private TileMap map;
+    private int minX, minY, width, height;
+
+    /**
+     * 칸 범위 [fromX, toX)의 지형을 재질별 외곽선으로 합친다.
+     * @return 외곽선 목록 (지형이 없으면 빈 목록)
+     */
+    public List<Outline> trace(TileMap map, int fromX, int toX) {
+        this.map = map;
+        minX = Math.max(fromX, map.getMinX());
+        width = Math.min(toX, map.getMinX() + map.getWidth()) - minX;
+        minY = map.getMinY();
+        height = map.getHeight();
+
+        List<Outline> result = new ArrayList<>();
+        if (width > 0 && height > 0) {
+            for (byte material = 1; material < TileMap.MATERIAL_COUNT; material++) {
+                traceOutlines(material);
+            }
+        }
+        result.addAll(outlines);
+        outlines.clear();
+        this.map = null;
+        return result;
+    }
+
+    /**
+     * 외곽선을 하나의 정적 Body에 ChainShape Fixture로 붙인다. 충돌 필터는 외곽선 재질의 카테고리를 따른다.
+     * @param world Box2D 월드
+     * @return 생성된 지형 Body (외곽선이 없으면 null)
+     */
+    public static Body createBody(World world, List<Outline> outlines) {
+        if (outlines.isEmpty()) return null;
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.StaticBody;
+        Body body = world.createBody(bodyDef);
+
+        FixtureDef fixtureDef = new FixtureDef();
+        for (Outline outline : outlines) {
+            ChainShape shape = new ChainShape();
+            if (outline.loop) shape.createLoop(outline.vertices);
+            else {
+                shape.createChain(outline.vertices);
+                if (outline.prevVertex != null) shape.setPrevVertex(outline.prevVertex[0], outline.prevVertex[1]);
+                if (outline.nextVertex != null) shape.setNextVertex(outline.nextVertex[0], outline.nextVertex[1]);
+            }
+
+            fixtureDef.shape = shape;
+            Collision.apply(fixtureDef.filter, TileMap.categoryOf(outline.material));
+            body.createFixture(fixtureDef);
+            shape.dispose();
+        }
+        return body;
+    }
+
+    private void traceOutlines(byte material) {
+        // edges[d][vy][vx] : 꼭짓점 (vx, vy)에서 d 방향으로 나가는 외곽선 변 (재질이 진행 방향의 왼쪽)
+        boolean[][][] edges = new boolean[4][height + 1][width + 1];
+        int[][] incoming = new int[height + 1][width + 1];
+        boolean found = false;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (map.getMaterial(x + minX, y + minY) != material) continue;
+                found = true;
+
+                // 빈 칸과 맞닿은 면만 외곽선 (다른 재질과의 경계는 지형 내부이므로 제외)
+                if (isEmpty(x, y - 1)) addEdge(edges, incoming, x, y, 0);         // 아래
+                if (isEmpty(x + 1, y)) addEdge(edges, incoming, x + 1, y, 1);     // 오른쪽
+                if (isEmpty(x, y + 1)) addEdge(edges, incoming, x + 1, y + 1, 2); // 위
+                if (isEmpty(x - 1, y)) addEdge(edges, incoming, x, y + 1, 3);     // 왼쪽
+            }
+        }
+        if (!found) return;
+
+        // 다른 재질이나 범위 경계에서 끊기는 열린 외곽선부터 처리하고, 남은 변은 닫힌 루프로 처리
+        for (int vy = 0; vy <= height; vy++) {
+            for (int vx = 0; vx <= width; vx++) {
+                if (incoming[vy][vx] > 0) continue;
+                for (int d = 0; d < 4; d++) {
+                    while (edges[d][vy][vx]) {
+                        createChain(edges, incoming, material, vx, vy, d);
+                    }
+                }
+            }
+        }
+        for (int vy = 0; vy <= height; vy++) {
+            for (int vx = 0; vx <= width; vx++) {
+                for (int d = 0; d < 4; d++) {
+                    if (edges[d][vy][vx]) {
+                        createChain(edges, incoming, material, vx, vy, d);
+                    }
+                }
+            }
+        }
+    }
+
+    private void addEdge(boolean[][][] edges, int[][] incoming, int vx, int vy, int d) {
+        edges[d][vy][vx] = true;
+        incoming[vy + DIR_Y[d]][vx + DIR_X[d]]++;
+    }
+
+    private void createChain(boolean[][][] edges, int[][] incoming, byte material,
+                             int startX, int startY, int startDir) {
+        FloatArray vertices = new FloatArray();
+        int vx = startX;
+        int vy = startY;
+        int d = startDir;
+        int prevDir = -1;
+
+        while (d >= 0) {
+            // 같은 방향이 이어지면 꼭짓점을 추가하지 않는다 (한 변으로 합침)
+            if (d != prevDir) addVertex(vertices, vx, vy);
+            edges[d][vy][vx] = false;
+            vx += DIR_X[d];
+            vy += DIR_Y[d];
+            incoming[vy][vx]--;
+            prevDir = d;
+            d = nextDirection(edges, vx, vy, d);
+        }
+
+        // 시작점으로 돌아오면 닫힌 루프
+        boolean loop = vx == startX && vy == startY;
+        float[] prevVertex = null;
+        float[] nextVertex = null;
+        if (loop) {
+            // 시작점이 직선 중간이면 제거
+            if (prevDir == startDir && vertices.size >= 8) {
+                vertices.removeRange(0, 1);
+            }
+            if (vertices.size < 6) return;
+        } else {
+            addVertex(vertices, vx, vy);
+            // 끊긴 양 끝에서 재질과 범위에 상관없이 이어지는 면을 찾는다 (nextDirection과 같은 순서)
+            for (int before : new int[]{(startDir + 3) % 4, startDir, (startDir + 1) % 4}) {
+                int fromX = startX - DIR_X[before];
+                int fromY = startY - DIR_Y[before];
+                if (!hasSurface(fromX, fromY, before)) continue;
+                prevVertex = vertex(fromX, fromY);
+                break;
+            }
+            for (int next : new int[]{(prevDir + 1) % 4, prevDir, (prevDir + 3) % 4}) {
+                if (!hasSurface(vx, vy, next)) continue;
+                nextVertex = vertex(vx + DIR_X[next], vy + DIR_Y[next]);
+                break;
+            }
+        }
+
+        outlines.add(new Outline(vertices.toArray(), loop, material, prevVertex, nextVertex));
+    }
+
+    // 꼭짓점 (vx, vy)에서 d 방향으로 나가는 면이 있는지 (진행 방향 왼쪽이 지형, 오른쪽이 빈 칸)
+    private boolean hasSurface(int vx, int vy, int d) {
+        switch (d) {
+            case 0: return !isEmpty(vx, vy) && isEmpty(vx, vy - 1);
+            case 1: return !isEmpty(vx - 1, vy) && isEmpty(vx, vy);
+            case 2: return !isEmpty(vx - 1, vy - 1) && isEmpty(vx - 1, vy);
+            default: return !isEmpty(vx, vy - 1) && isEmpty(vx - 1, vy - 1);
+        }
+    }
+
+    // 대각선으로 맞닿은 칸에서는 좌회전 → 직진 → 우회전 순서로 골라 같은 덩어리를 따라간다
+    private int nextDirection(boolean[][][] edges, int vx, int vy, int d) {
+        int[] candidates = {(d + 1) % 4, d, (d + 3) % 4};
+        for (int next : candidates) {
+            if (edges[next][vy][vx]) return next;
+        }
+        return -1;
+    }
+
+    private void addVertex(FloatArray vertices, int vx, int vy) {
+        vertices.add((vx + minX) * BlockObject.BlockWidth / GameWorld.PPM);
+        vertices.add((vy + minY) * BlockObject.BlockHeight / GameWorld.PPM);
+    }
+
+    private float[] vertex(int vx, int vy) {
+        return new float[]{(vx + minX) * BlockObject.BlockWidth / GameWorld.PPM, (vy + minY) * BlockObject.BlockHeight / GameWorld.PPM};
+    }
+
+    // 범위 밖 칸도 TileMap에서 조회한다
+    private boolean isEmpty(int x, int y) {
+        return !map.isSolid(x + minX, y + minY);
+    }
+}
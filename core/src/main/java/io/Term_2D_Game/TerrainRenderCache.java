@@ -0,0 +1,202 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.Term_2D_Game.Objects.BlockObject;
+
+/**
+ * 지형 타일(TileMap)과 움직이지 않는 블록(Sign, Flag)의 Sprite를 SpriteCache(GPU 메시)에 기록해 둔다.
+ * LevelStreamer가 활성화한 청크(세로 띠) 단위로 등록/해제하고, 화면과 겹치는 청크만 그린다.
+ * 청크마다 SpriteCache를 쓰며(MAX_CACHE_SIZE를 넘으면 여러 개로 나눈다), 해제된 청크의 SpriteCache는 다음 청크가 다시 사용한다.
+ */
+public class TerrainRenderCache implements Disposable {
+    // SpriteCache 하나가 인덱스를 사용할 때 담을 수 있는 최대 Sprite 수
+    private static final int MAX_CACHE_SIZE = 8191;
+
+    private final IntMap<Chunk> chunks = new IntMap<>();
+    private final List<Segment> free = new ArrayList<>(); // 재사용할 SpriteCache
+    private int drawnChunks = 0;
+
+    // SpriteCache에 기록된 청크 하나
+    private static class Chunk {
+        final List<Segment> segments = new ArrayList<>();
+        float minX, maxX;
+        TileMap map;
+        List<BlockObject> blocks;
+        boolean dirty;
+    }
+
+    // 청크의 Sprite를 최대 MAX_CACHE_SIZE개씩 담는 SpriteCache
+    private static class Segment {
+        SpriteCache cache;
+        int capacity;
+        int cacheId;
+    }
+
+    /**
+     * 청크의 지형 타일과 정적 블록을 등록한다. 실제 메시는 다음 draw에서 만든다 (GL 컨텍스트가 없는 환경 대비)
+     * @param index 청크 번호 (x / LevelStreamer.CHUNK_WIDTH)
+     * @param map 지형 격자 (청크 열 범위의 타일을 그린다)
+     * @param blocks 청크에 속한 정적 블록 (참조를 그대로 보관)
+     */
+    public void setChunk(int index, TileMap map, List<BlockObject> blocks) {
+        Chunk chunk = chunks.get(index);
+        if (chunk == null) {
+            chunk = new Chunk();
+            chunk.minX = index * LevelStreamer.CHUNK_WIDTH;
+            chunk.maxX = chunk.minX + LevelStreamer.CHUNK_WIDTH;
+            chunks.put(index, chunk);
+        }
+        chunk.map = map;
+        chunk.blocks = blocks;
+        chunk.dirty = true;
+    }
+
+    public void removeChunk(int index) {
+        Chunk chunk = chunks.remove(index);
+        if (chunk == null) return;
+        chunk.map = null;
+        chunk.blocks = null;
+        free.addAll(chunk.segments);
+        chunk.segments.clear();
+    }
+
+    /** 레벨이 바뀌었을 때 모든 청크를 해제한다 (SpriteCache는 재사용) */
+    public void clear() {
+        for (Chunk chunk : chunks.values()) {
+            free.addAll(chunk.segments);
+        }
+        chunks.clear();
+    }
+
+    public void draw(Matrix4 projection, Rectangle view) {
+        drawnChunks = 0;
+        if (chunks.size == 0) return;
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (Chunk chunk : chunks.values()) {
+            if (chunk.maxX < view.x || chunk.minX > view.x + view.width) continue;
+            if (chunk.dirty) build(chunk);
+            if (chunk.segments.isEmpty()) continue;
+
+            for (int i = 0; i < chunk.segments.size(); i++) {
+                Segment segment = chunk.segments.get(i);
+                segment.cache.setProjectionMatrix(projection);
+                segment.cache.begin();
+                segment.cache.draw(segment.cacheId);
+                segment.cache.end();
+            }
+            drawnChunks++;
+        }
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    private void build(Chunk chunk) {
+        chunk.dirty = false;
+        int fromX = (int) (chunk.minX / BlockObject.BlockWidth);
+        int toX = fromX + LevelStreamer.CHUNK_TILES;
+        int total = chunk.map.countTiles(fromX, toX) + chunk.blocks.size();
+        int needed = (total + MAX_CACHE_SIZE - 1) / MAX_CACHE_SIZE;
+
+        // 남는 SpriteCache는 재사용 목록으로 돌려보낸다 (비어 있는 청크는 아무것도 쥐지 않는다)
+        while (chunk.segments.size() > needed) {
+            free.add(chunk.segments.remove(chunk.segments.size() - 1));
+        }
+        if (needed == 0) return;
+
+        // 용량이 모자라면 재사용 목록에서 찾거나 새로 만든다
+        for (int i = 0; i < needed; i++) {
+            int size = Math.min(total - i * MAX_CACHE_SIZE, MAX_CACHE_SIZE);
+            Segment segment = i < chunk.segments.size() ? chunk.segments.get(i) : null;
+            if (segment != null && segment.capacity >= size) continue;
+            if (segment != null) segment.cache.dispose();
+            segment = obtain(size);
+            if (i < chunk.segments.size()) chunk.segments.set(i, segment);
+            else chunk.segments.add(segment);
+        }
+
+        int index = 0;
+        int count = 0;
+        SpriteCache cache = begin(chunk, index);
+        TileMap map = chunk.map;
+        for (int y = map.getMinY(); y < map.getMinY() + map.getHeight(); y++) {
+            for (int x = fromX; x < toX; x++) {
+                short tile = map.getTile(x, y);
+                if (tile == 0) continue;
+                if (count == MAX_CACHE_SIZE) {
+                    end(chunk, index);
+                    cache = begin(chunk, ++index);
+                    count = 0;
+                }
+                cache.add(map.getRegion(tile), x * BlockObject.BlockWidth, y * BlockObject.BlockHeight,
+                    BlockObject.BlockWidth, BlockObject.BlockHeight);
+                count++;
+            }
+        }
+        for (int i = 0; i < chunk.blocks.size(); i++) {
+            if (count == MAX_CACHE_SIZE) {
+                end(chunk, index);
+                cache = begin(chunk, ++index);
+                count = 0;
+            }
+            cache.add(chunk.blocks.get(i).sprite);
+            count++;
+        }
+        end(chunk, index);
+    }
+
+    // 용량이 size 이상인 SpriteCache를 재사용 목록에서 꺼내거나 새로 만든다
+    private Segment obtain(int size) {
+        for (int i = 0; i < free.size(); i++) {
+            if (free.get(i).capacity >= size) return free.remove(i);
+        }
+        Segment segment = new Segment();
+        segment.cache = new SpriteCache(size, true);
+        segment.capacity = size;
+        return segment;
+    }
+
+    private SpriteCache begin(Chunk chunk, int index) {
+        SpriteCache cache = chunk.segments.get(index).cache;
+        cache.clear();
+        cache.beginCache();
+        return cache;
+    }
+
+    private void end(Chunk chunk, int index) {
+        Segment segment = chunk.segments.get(index);
+        segment.cacheId = segment.cache.endCache();
+    }
+
+    public int getDrawnChunks() {
+        return drawnChunks;
+    }
+
+    public int getChunkCount() {
+        return chunks.size;
+    }
+
+    @Override
+    public void dispose() {
+        for (Chunk chunk : chunks.values()) {
+            for (Segment segment : chunk.segments) {
+                segment.cache.dispose();
+            }
+        }
+        for (Segment segment : free) {
+            segment.cache.dispose();
+        }
+        chunks.clear();
+        free.clear();
+    }
+}
@@ -0,0 +1,72 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+
+/**
+ * 문자열 하나의 레이아웃과 글리프 정점(BitmapFontCache)을 보관한다.
+ * 글자, 색, 폭, 정렬이 바뀔 때만 다시 계산하고, 그릴 때는 위치만 옮겨 미리 만든 정점을 그대로 배치에 넘긴다.
+ * 매 프레임 setText를 불러도 내용이 같으면 할당이나 레이아웃 계산이 없다.
+ */
+public class TextRun {
+    private final BitmapFontCache cache;
+    private String text;
+    private final Color color = new Color();
+    private float targetWidth;
+    private int halign;
+    private boolean wrap;
+    private float width, height;
+
+    public TextRun(BitmapFont font) {
+        cache = font.newFontCache();
+    }
+
+    /** 왼쪽 정렬, 줄바꿈 없이 폰트 색으로 */
+    public TextRun setText(CharSequence text) {
+        return setText(text, cache.getFont().getColor(), 0f, Align.left, false);
+    }
+
+    /**
+     * 내용이 이전과 다를 때만 레이아웃과 정점을 다시 만든다.
+     * @param targetWidth 정렬/줄바꿈 기준 폭
+     * @param halign Align.left, center, right
+     * @param wrap targetWidth에서 줄바꿈
+     */
+    public TextRun setText(CharSequence text, Color color, float targetWidth, int halign, boolean wrap) {
+        if (this.text != null && this.text.contentEquals(text) && this.color.equals(color)
+            && this.targetWidth == targetWidth && this.halign == halign && this.wrap == wrap) {
+            return this;
+        }
+        this.text = text.toString();
+        this.color.set(color);
+        this.targetWidth = targetWidth;
+        this.halign = halign;
+        this.wrap = wrap;
+
+        cache.clear();
+        cache.setPosition(0f, 0f);
+        cache.setColor(color);
+        GlyphLayout layout = cache.addText(this.text, 0f, 0f, targetWidth, halign, wrap);
+        width = layout.width;
+        height = layout.height;
+        return this;
+    }
+
+    /** 텍스트 왼쪽 위(BitmapFont.draw와 같은 기준)를 x, y에 두고 그린다 */
+    public void draw(Batch batch, float x, float y) {
+        if (cache.getX() != x || cache.getY() != y) cache.setPosition(x, y);
+        cache.draw(batch);
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,240 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.Term_2D_Game.Objects.BlockObject;
+
+/**
+ * 지형(Sand, Stone) 타일을 칸마다 재질(byte)과 타일 ID(short)로만 저장하는 격자.
+ * 지형은 객체를 만들지 않고 이 격자로 충돌체(TerrainColliderBuilder)와 렌더 캐시(TerrainRenderCache)를 만든다.
+ * 칸 좌표는 레벨 파일의 블록 좌표와 같다 (1칸 = 64px). 레벨을 읽은 뒤에는 바뀌지 않으므로 여러 스레드에서 읽어도 된다.
+ * 레벨 파일에서 sprite를 생략한 지형 칸은 AutoTiler가 이웃 칸을 보고 Sprite를 고른다.
+ * LevelCompiler가 격자를 미리 만들어 .lvl에 넣어 두므로, 런타임에는 읽기(read)와 텍스처 연결(resolveRegions)만 한다.
+ */
+public class TileMap {
+    // 재질 (0은 빈 칸)
+    public static final byte EMPTY = 0;
+    public static final byte SAND = 1;
+    public static final byte STONE = 2;
+    public static final int MATERIAL_COUNT = 3;
+
+    private int minX, minY, width, height;
+    private int levelCols, levelRows; // 레벨 범위 (칸 단위, 자동 타일에서 범위 밖은 채워진 칸으로 본다)
+    private byte[] materials = new byte[0];
+    private short[] tiles = new short[0]; // 0은 없음, 나머지는 tileNames 인덱스 + 1
+
+    private final List<String> tileNames = new ArrayList<>();
+    private TextureRegion[] regions = new TextureRegion[1];
+
+    /** 레벨 데이터의 지형 블록으로 격자를 채우고 자동 타일을 정한다. 텍스처는 resolveRegions에서 연결 */
+    public void build(LevelData data) {
+        tileNames.clear();
+        Map<String, Short> ids = new HashMap<>();
+
+        minX = Integer.MAX_VALUE;
+        minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int b = 0; b < data.blockCount; b++) {
+            if (materialOf(data.blockTypes[b]) == EMPTY) continue;
+            minX = Math.min(minX, (int) data.blockX[b]);
+            maxX = Math.max(maxX, (int) data.blockX[b] + data.blockLength[b] - 1);
+            minY = Math.min(minY, (int) data.blockY[b]);
+            maxY = Math.max(maxY, (int) data.blockY[b]);
+        }
+        if (minX > maxX) {
+            minX = minY = width = height = 0;
+            materials = new byte[0];
+            tiles = new short[0];
+            return;
+        }
+
+        width = maxX - minX + 1;
+        height = maxY - minY + 1;
+        materials = new byte[width * height];
+        tiles = new short[width * height];
+        for (int b = 0; b < data.blockCount; b++) {
+            byte material = materialOf(data.blockTypes[b]);
+            if (material == EMPTY) continue;
+
+            short id = data.blockSprites[b] == null ? 0 : tileId(ids, data.blockSprites[b]); // 0은 자동 타일
+            int row = ((int) data.blockY[b] - minY) * width;
+            for (int i = 0; i < data.blockLength[b]; i++) {
+                int index = row + (int) data.blockX[b] + i - minX;
+                materials[index] = material;
+                tiles[index] = id;
+            }
+        }
+
+        levelCols = (int) Math.ceil(data.levelWidth / BlockObject.BlockWidth);
+        levelRows = (int) Math.ceil(data.levelHeight / BlockObject.BlockHeight);
+        autoTile(ids);
+    }
+
+    /** 타일 ID별 텍스처를 찾아 둔다. 레벨 에셋이 로드된 뒤에 호출 (레벨을 다시 올릴 때마다) */
+    public void resolveRegions() {
+        regions = new TextureRegion[tileNames.size() + 1];
+        for (int i = 0; i < tileNames.size(); i++) {
+            regions[i + 1] = Assets.get(tileNames.get(i));
+        }
+    }
+
+    /** 타일 이름 (ID 순서, 바이너리 문자열 테이블에 넣을 것) */
+    public List<String> getTileNames() {
+        return tileNames;
+    }
+
+    /**
+     * 격자를 바이너리로 쓴다. [범위(minX, minY, width, height), 타일 이름 수, [문자열 인덱스], 칸별(재질, 타일 ID)]
+     * @param strings LevelData의 문자열 테이블 (타일 이름이 들어 있어야 함)
+     */
+    public void write(DataOutputStream out, List<String> strings) throws IOException {
+        out.writeInt(minX);
+        out.writeInt(minY);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeShort(tileNames.size());
+        for (String name : tileNames) {
+            out.writeShort(strings.indexOf(name));
+        }
+        out.write(materials);
+        for (short tile : tiles) {
+            out.writeShort(tile);
+        }
+    }
+
+    public void read(ByteBuffer buffer, String[] strings) {
+        minX = buffer.getInt();
+        minY = buffer.getInt();
+        width = buffer.getInt();
+        height = buffer.getInt();
+        tileNames.clear();
+        int nameCount = buffer.getShort();
+        for (int i = 0; i < nameCount; i++) {
+            tileNames.add(strings[buffer.getShort()]);
+        }
+        materials = new byte[width * height];
+        tiles = new short[width * height];
+        buffer.get(materials);
+        buffer.asShortBuffer().get(tiles);
+        buffer.position(buffer.position() + tiles.length * 2);
+        regions = new TextureRegion[1];
+    }
+
+    // sprite가 없는 칸을 이웃 마스크로 채운다 (격자 한 번 순회)
+    private void autoTile(Map<String, Short> ids) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                byte material = materials[index];
+                if (material == EMPTY || tiles[index] != 0) continue;
+
+                int cellX = x + minX;
+                int cellY = y + minY;
+                int mask = 0;
+                if (AutoTiler.connects(material, neighborOf(material, cellX, cellY + 1), AutoTiler.UP)) mask |= AutoTiler.UP;
+                if (AutoTiler.connects(material, neighborOf(material, cellX + 1, cellY), AutoTiler.RIGHT)) mask |= AutoTiler.RIGHT;
+                if (AutoTiler.connects(material, neighborOf(material, cellX, cellY - 1), AutoTiler.DOWN)) mask |= AutoTiler.DOWN;
+                if (AutoTiler.connects(material, neighborOf(material, cellX - 1, cellY), AutoTiler.LEFT)) mask |= AutoTiler.LEFT;
+                tiles[index] = tileId(ids, AutoTiler.spriteName(material, mask));
+            }
+        }
+    }
+
+    // 레벨 범위 밖은 같은 재질로 채워진 것으로 본다
+    private byte neighborOf(byte material, int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0 || cellX >= levelCols || cellY >= levelRows) return material;
+        return getMaterial(cellX, cellY);
+    }
+
+    private short tileId(Map<String, Short> ids, String name) {
+        Short id = ids.get(name);
+        if (id == null) {
+            tileNames.add(name);
+            id = (short) tileNames.size();
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    public static byte materialOf(byte blockType) {
+        switch (blockType) {
+            case LevelData.TYPE_SAND: return SAND;
+            case LevelData.TYPE_STONE: return STONE;
+            default: return EMPTY;
+        }
+    }
+
+    /** 재질의 충돌 카테고리 */
+    public static short categoryOf(byte material) {
+        return material == STONE ? Collision.STONE : Collision.SAND;
+    }
+
+    public byte getMaterial(int cellX, int cellY) {
+        int x = cellX - minX;
+        int y = cellY - minY;
+        if (x < 0 || y < 0 || x >= width || y >= height) return EMPTY;
+        return materials[y * width + x];
+    }
+
+    public boolean isSolid(int cellX, int cellY) {
+        return getMaterial(cellX, cellY) != EMPTY;
+    }
+
+    /** 픽셀 좌표가 속한 칸의 재질 */
+    public byte getMaterialAt(float x, float y) {
+        return getMaterial(cellOf(x, BlockObject.BlockWidth), cellOf(y, BlockObject.BlockHeight));
+    }
+
+    public short getTile(int cellX, int cellY) {
+        int x = cellX - minX;
+        int y = cellY - minY;
+        if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+        return tiles[y * width + x];
+    }
+
+    /** 타일 ID의 텍스처 (0이면 null) */
+    public TextureRegion getRegion(short tile) {
+        return regions[tile];
+    }
+
+    /** 칸 범위 [fromX, toX) 안의 타일 수 */
+    public int countTiles(int fromX, int toX) {
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = Math.max(fromX, minX); x < Math.min(toX, minX + width); x++) {
+                if (tiles[y * width + x - minX] != 0) count++;
+            }
+        }
+        return count;
+    }
+
+    private static int cellOf(float pixel, float size) {
+        return (int) Math.floor(pixel / size);
+    }
+
+    // 타일이 있는 칸 범위
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
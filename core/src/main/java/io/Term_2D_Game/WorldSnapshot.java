@@ -0,0 +1,119 @@
+package io.Term_2D_Game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * GameWorld의 변하는 상태를 바이트 버퍼 하나에 담는 스냅샷 (체크포인트, 퀵세이브, 디버깅 도구, ReachabilitySolver).
+ * 지형, 레벨 데이터, 에셋처럼 레벨을 읽은 뒤 바뀌지 않는 것은 담지 않으므로 보통 수백 바이트이고,
+ * 버퍼를 재사용하므로 매 틱 capture해도 할당이 없다. restore는 월드를 다시 만들지 않고 그 자리에서 되돌린다.
+ * restore는 버퍼를 읽기만 하므로 한 스냅샷을 여러 스레드가 각자의 월드로 동시에 복원해도 된다 (capture는 한 스레드에서만).
+ *
+ * 바이너리 구조 (big-endian):
+ * MAGIC, VERSION, 레벨 이름(길이, char), GameWorld(누적 시간, 페이드 타이머, 종료 여부),
+ * 입력(현재, 이전 마스크, 기록 틱 수),
+ * 플레이어(Body 위치/각도/속도/중력, 직전 틱 위치, 상태, 플래그 비트, 타이머, 접촉 수),
+ * 레벨(부서진 상자 개수, [x칸, y칸], 말풍선이 보이는 표지판 개수, [x칸, y칸]), 이펙트(개수, [종류, 위치, 시간, 플래그])
+ *
+ * Box2D 접촉 자체는 저장할 수 없으므로 접촉에서 나온 상태(바닥/벽 접촉 수, 깃발 접촉, 표지판 말풍선)를 저장하고,
+ * 복원할 때는 Body를 옮기기만 한다 (물리 스텝 없음). 접촉은 다음 스텝이 시작할 때 복원한 위치에서 다시 찾지만
+ * 접촉 충격량(warm starting)은 0부터 다시 쌓이므로, 복원한 월드는 원래 월드와 부동소수점 오차 정도 다를 수 있다.
+ * 정확히 같은 결과가 필요하면 스크립트를 새 월드에서 재생해 확인한다.
+ * 입력 소스(ScriptedInput 위치 등)는 월드 상태가 아니므로 담지 않는다.
+ */
+public class WorldSnapshot {
+    public static final int MAGIC = 0x48435753; // "HCWS"
+    public static final int VERSION = 2;
+    public static final String EXTENSION = "sav";
+    private static final int INITIAL_CAPACITY = 512;
+
+    private ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    public WorldSnapshot() {
+        buffer.limit(0); // 아직 비어 있음
+    }
+
+    /** 현재 상태를 버퍼에 쓴다 (이전 내용은 덮어쓴다) */
+    public void capture(GameWorld gameWorld) {
+        while (true) {
+            buffer.clear();
+            try {
+                buffer.putInt(MAGIC);
+                buffer.putInt(VERSION);
+                writeName(buffer, gameWorld.getLoadedLevel());
+                gameWorld.writeState(buffer);
+                break;
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2); // 상자나 이펙트가 많으면 키운다
+            }
+        }
+        buffer.flip();
+    }
+
+    /** 스냅샷 시점으로 되돌린다. 다른 레벨의 스냅샷이면 그 레벨을 먼저 올린다 */
+    public void restore(GameWorld gameWorld) {
+        if (buffer.limit() == 0) throw new GdxRuntimeException("Empty world snapshot");
+        ByteBuffer in = buffer.duplicate(); // 읽기 위치를 따로 두어 다른 스레드의 restore와 섞이지 않게
+        in.rewind();
+        if (in.getInt() != MAGIC) throw new GdxRuntimeException("Not a world snapshot");
+        int version = in.getInt();
+        if (version != VERSION) throw new GdxRuntimeException("Unsupported snapshot version: " + version);
+
+        String level = readName(in, gameWorld.getLoadedLevel());
+        if (level != null) gameWorld.loadLevel(level);
+        gameWorld.readState(in);
+    }
+
+    public boolean isEmpty() {
+        return buffer.limit() == 0;
+    }
+
+    // 인코딩된 크기 (바이트)
+    public int size() {
+        return buffer.limit();
+    }
+
+    /** 인코딩된 내용 (읽기 전용, 디버깅 도구에서 덤프하거나 두 스냅샷을 비교할 때) */
+    public ByteBuffer getBytes() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    public void save(FileHandle file) {
+        file.writeBytes(buffer.array(), 0, buffer.limit(), false);
+    }
+
+    public static WorldSnapshot load(FileHandle file) {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.buffer = ByteBuffer.wrap(file.readBytes());
+        return snapshot;
+    }
+
+    // 문자열 객체를 만들지 않도록 char로 쓴다
+    private static void writeName(ByteBuffer out, String name) {
+        out.putShort((short) name.length());
+        for (int i = 0; i < name.length(); i++) {
+            out.putChar(name.charAt(i));
+        }
+    }
+
+    // 버퍼의 이름이 current와 같으면 null (문자열을 만들지 않음), 다르면 그 이름
+    private static String readName(ByteBuffer in, String current) {
+        int length = in.getShort();
+        int start = in.position();
+        boolean same = current != null && current.length() == length;
+        for (int i = 0; same && i < length; i++) {
+            same = in.getChar(start + i * 2) == current.charAt(i);
+        }
+        in.position(start + length * 2);
+        if (same) return null;
+
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append(in.getChar(start + i * 2));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import io.Term_2D_Game.LevelStreamer;
+import io.Term_2D_Game.Input.InputRecording;
+import io.Term_2D_Game.Input.ScriptedInput;
+
+/**
+ * 헤드리스 시뮬레이션 실행기 (GPU 없는 CI에서 레벨 클리어 회귀 테스트, 물리 soak 테스트용).
+ *
+ * 사용법: HeadlessLauncher [--soak | --restart N] &lt;레벨 이름&gt; [입력 스크립트] [최대 틱 수]
+ *        (--restart: 같은 월드를 제자리 재시작으로 N번 더 돌려 처음과 비트 단위로 같은지 확인)
+ *        HeadlessLauncher --replay &lt;게임에서 F5로 저장한 .rep 파일&gt;
+ *        HeadlessLauncher --farm &lt;작업 파일&gt; [옵션] (여러 플레이를 코어 수만큼 동시에 실행, SimulationFarm 참고)
+ *        HeadlessLauncher --solve &lt;레벨...&gt; [옵션] (깃발까지 가는 입력을 탐색, ReachabilitySolver 참고)
+ * 작업 폴더는 assets여야 한다. 종료 코드는 CLEARED/SOAK_DONE이면 0, 그 외 1.
+ */
+public class HeadlessLauncher {
+    private static final int DEFAULT_MAX_TICKS = 60 * 60 * 10; // 10분
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LevelStreamer.setPrefetchEnabled(false); // 프레임 예산이 없으므로 청크는 들어올 때 바로 준비한다 (월드마다 스레드를 기다리지 않도록)
+        if (args.length > 0 && args[0].equals("--farm")) {
+            SimulationFarm.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--solve")) {
+            ReachabilitySolver.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        boolean soak = false;
+        int restarts = 0;
+        String replayPath = null;
+        int argIndex = 0;
+        if (args.length > 0 && args[0].equals("--soak")) {
+            soak = true;
+            argIndex++;
+        } else if (args.length > 1 && args[0].equals("--restart")) {
+            restarts = Integer.parseInt(args[1]);
+            argIndex += 2;
+        } else if (args.length > 1 && args[0].equals("--replay")) {
+            replayPath = args[1];
+            argIndex += 2;
+        }
+
+        String level;
+        ScriptedInput input;
+        int maxTicks;
+        if (replayPath != null) {
+            // 녹화된 레벨과 입력을 녹화 길이만큼 그대로 재생
+            InputRecording recording;
+            try (InputStream in = new FileInputStream(replayPath)) {
+                recording = InputRecording.read(in);
+            }
+            level = recording.getLevel();
+            input = recording.toInput();
+            maxTicks = recording.getTickCount();
+        } else {
+            if (args.length <= argIndex) {
+                System.out.println("Usage: HeadlessLauncher [--soak | --restart N] <level> [script] [maxTicks]");
+                System.out.println("       HeadlessLauncher --replay <file." + InputRecording.EXTENSION + ">");
+                System.out.println("       HeadlessLauncher --farm <jobs> [--threads N] [--repeat N] [--jumpForce a,b] ...");
+                System.out.println("       HeadlessLauncher --solve <level...> [--threads N] [--maxNodes N] [--weight W] [--out dir]");
+                System.exit(2);
+            }
+            level = args[argIndex];
+            input = args.length > argIndex + 1
+                ? ScriptedInput.parse(new String(Files.readAllBytes(Paths.get(args[argIndex + 1])), StandardCharsets.UTF_8))
+                : new ScriptedInput();
+            maxTicks = args.length > argIndex + 2 ? Integer.parseInt(args[argIndex + 2]) : DEFAULT_MAX_TICKS;
+        }
+
+        SimulationRunner runner = new SimulationRunner(level, input, maxTicks, soak, restarts);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // create()에서 모두 실행하므로 렌더 루프 불필요
+        new HeadlessApplication(runner, configuration);
+
+        runner.awaitFinished();
+        Simulation.Result result = runner.getResult();
+        System.exit(result == Simulation.Result.CLEARED || result == Simulation.Result.SOAK_DONE ? 0 : 1);
+    }
+}
@@ -0,0 +1,40 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * 아무것도 하지 않는 GL20. 헤드리스 백엔드는 Gdx.gl이 null이라 Texture 생성 등에서 실패하므로,
+ * 그리지 않는 시뮬레이션에서도 기존 로딩 코드(Assets, Level)를 그대로 쓰기 위해 사용한다.
+ * 정수 반환값과 glGet*가 채우는 IntBuffer는 1 (핸들 생성, 셰이더 컴파일 상태 조회 등이 성공한 것처럼),
+ * 나머지는 기본값을 돌려준다. 덕분에 SpriteBatch, SpriteCache도 생성해서 제출 비용을 측정할 수 있다.
+ */
+public class NoOpGL20 {
+
+    public static GL20 create() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getName().startsWith("glGet") && args != null) {
+                    for (Object arg : args) {
+                        if (arg instanceof IntBuffer) {
+                            IntBuffer buffer = (IntBuffer) arg;
+                            for (int i = buffer.position(); i < buffer.limit(); i++) buffer.put(i, 1);
+                        }
+                    }
+                }
+
+                Class<?> type = method.getReturnType();
+                if (type == int.class) return 1;
+                if (type == boolean.class) return true;
+                if (type == float.class) return 0f;
+                if (type == String.class) return "";
+                return null;
+            }
+        });
+    }
+}
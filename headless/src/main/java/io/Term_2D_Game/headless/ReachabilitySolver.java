@@ -0,0 +1,551 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.Fonts;
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.TileMap;
+import io.Term_2D_Game.WorldSnapshot;
+import io.Term_2D_Game.Input.Action;
+import io.Term_2D_Game.Input.ScriptedInput;
+import io.Term_2D_Game.Objects.BlockObject;
+import io.Term_2D_Game.Player.Player;
+
+/**
+ * 레벨을 깃발까지 클리어할 수 있는지 탐색으로 확인하고, 찾은 입력 스크립트를 만든다 (레벨 수정 후 경로 회귀 검사).
+ * 가중치를 둔 탐색이라 찾은 경로는 가장 짧은 경로가 아니다 (bounded-suboptimal). 깃발에 처음 닿는 경로를 찾으면
+ * 더 줄이지 않고 끝낸다.
+ *
+ * 매크로(걷기, 점프 누르기, 벽 오르기, 대시, 공격, 대기)를 이어 붙인 입력을 GameWorld에서 실제로 돌려 보며 최선 우선 탐색을 한다.
+ * 우선순위는 지금까지의 틱 수 + 깃발까지 남은 거리를 걸어서 가는 틱 수 x weight (weight가 1에 가까울수록 짧은 경로, 클수록 빠른 탐색).
+ * 남은 거리는 TileMap의 빈 칸을 따라 깃발에서 BFS로 잰 칸 수라서 계단이나 기둥을 돌아가는 경로도 내리막으로 보인다.
+ * 점프는 JUMP를 누른 순간에만 일어나므로 점프 매크로를 연달아 붙이면 더 오래 누른 점프가 되고,
+ * 벽에 붙은 상태에서 반대쪽 점프 매크로를 붙이면 벽 점프가 된다.
+ * 도착 상태(위치, 속도, 상태, 벽/대시 가능 여부, 바닥에서의 대시 쿨타임, 부서진 상자)를 양자화한 키로 더 늦게 도착한 중복 상태를 버린다.
+ *
+ * 한 라운드마다 우선순위가 높은 노드 BATCH_SIZE개의 자식을 ForkJoinPool에서 동시에 평가한다.
+ * 노드마다 도착 상태의 WorldSnapshot을 두고, 평가는 작업 스레드마다 둔 월드를 부모 스냅샷으로 되돌린 뒤 매크로만 돌린다
+ * (처음부터 다시 재생하지 않으므로 깊은 노드도 평가 비용이 같다).
+ * 라운드 크기와 결과를 반영하는 순서가 고정이라 결과는 스레드 수와 무관하다.
+ * 찾은 스크립트는 새 GameWorld에서 Simulation으로 처음부터 다시 돌려 같은 틱에 클리어되는지 확인한다.
+ *
+ * --cache 폴더를 주면 찾은 스크립트를 레벨 파일의 CRC32와 함께 &lt;레벨&gt;.txt로 저장해 두고,
+ * 다음 실행에서 레벨 파일이 같으면 탐색 없이 저장된 스크립트만 새 월드에서 돌려 본다 (CI용).
+ * 게임 코드가 바뀌어 저장된 스크립트로 더 이상 클리어되지 않으면 다시 탐색한다.
+ *
+ * 사용법: HeadlessLauncher --solve &lt;레벨...&gt; [--threads N] [--maxNodes N] [--weight W] [--out 폴더] [--cache 폴더]
+ * 작업 폴더는 assets여야 한다. 종료 코드는 모든 레벨의 경로를 찾고 확인했으면 0, 그 외 1.
+ */
+public class ReachabilitySolver extends ApplicationAdapter {
+    private static final int BATCH_SIZE = 32;           // 라운드마다 펼칠 노드 수
+    private static final int DEFAULT_MAX_NODES = 100000; // 펼칠 최대 노드 수 (넘으면 실패)
+    private static final float DEFAULT_WEIGHT = 2f;
+    private static final int PROGRESS_ROUNDS = 50;      // 진행 상황 출력 간격 (라운드)
+
+    // 상태 키 양자화 단위
+    private static final float POSITION_STEP = 0.16f;   // m (1/4칸)
+    private static final float VELOCITY_STEP = 1f;      // m/s
+    private static final float WALL_TIMER_STEP = 0.25f; // s
+    private static final float DASH_TIMER_STEP = 0.5f;  // s
+
+    /** 한 번에 이어 붙이는 입력 (mask를 ticks 동안 유지) */
+    static class Macro {
+        final int mask;
+        final int ticks;
+
+        Macro(String actions, int ticks) {
+            this.mask = Action.parseMask(actions);
+            this.ticks = ticks;
+        }
+    }
+
+    static final Macro[] MACROS = {
+        new Macro("RIGHT", 8),
+        new Macro("LEFT", 8),
+        new Macro("RIGHT+JUMP", 7),  // 이어 붙이면 최대 MAX_JUMP_TIME까지 더 높이 뛴다
+        new Macro("LEFT+JUMP", 7),
+        new Macro("JUMP", 7),
+        new Macro("RIGHT+DASH", 4),
+        new Macro("LEFT+DASH", 4),
+        new Macro("RIGHT+UP", 8),    // 벽 오르기
+        new Macro("LEFT+UP", 8),
+        new Macro("RIGHT+ATTACK", 4),
+        new Macro("LEFT+ATTACK", 4),
+        new Macro("-", 8),
+    };
+
+    // 탐색 트리의 노드 (부모를 따라가면 입력 전체가 나온다)
+    private static class Node {
+        final Node parent;
+        final Macro macro; // null이면 스폰 대기
+        final int ticks;   // 시작부터 이 노드까지 틱 수
+        final long key;
+        final float priority;
+        final int id;      // 같은 우선순위일 때 먼저 만든 노드부터 (결정적 순서)
+        final WorldSnapshot state; // 도착 상태 (자식 평가의 시작점)
+
+        Node(Node parent, Macro macro, int ticks, long key, float priority, int id, WorldSnapshot state) {
+            this.parent = parent;
+            this.macro = macro;
+            this.ticks = ticks;
+            this.key = key;
+            this.priority = priority;
+            this.id = id;
+            this.state = state;
+        }
+    }
+
+    private static final Comparator<Node> BY_PRIORITY = new Comparator<Node>() {
+        @Override
+        public int compare(Node a, Node b) {
+            if (a.priority != b.priority) return Float.compare(a.priority, b.priority);
+            return Integer.compare(a.id, b.id);
+        }
+    };
+
+    // 노드 하나에 매크로 하나를 붙여 돌려 본 결과 (작업 스레드에서 채운다)
+    private class Evaluate implements Callable<Evaluate> {
+        final Node parent;
+        final Macro macro;
+        int ticks; // 시작부터 센 틱 수
+        boolean dead, cleared;
+        long key;
+        int distance; // 깃발까지 남은 칸 수
+        WorldSnapshot state;
+
+        Evaluate(Node parent, Macro macro) {
+            this.parent = parent;
+            this.macro = macro;
+        }
+
+        @Override
+        public Evaluate call() {
+            GameWorld gameWorld = worldOfCurrentThread();
+            ScriptedInput input = new ScriptedInput();
+            input.add(macro.ticks, macro.mask);
+            gameWorld.setInputSource(input);
+            parent.state.restore(gameWorld); // 직전 틱 입력도 스냅샷에서 돌아오므로 누르던 점프가 이어진다
+
+            Player player = gameWorld.getPlayer();
+            ticks = parent.ticks;
+            for (int i = 0; i < macro.ticks; i++) {
+                gameWorld.update(GameWorld.TIME_STEP);
+                ticks++;
+                if (player.getState() == Player.State.DEAD) {
+                    dead = true;
+                    return this;
+                }
+            }
+            key = stateKey(gameWorld, macro.mask);
+            distance = distanceOf(gameWorld);
+            state = new WorldSnapshot();
+            state.capture(gameWorld);
+
+            // 깃발 위에 서 있으면 한 틱 INTERACT로 클리어를 확인한다 (노드에는 INTERACT 전 상태가 남는다)
+            if (player.isContactFlag() && player.isGrounded()) {
+                input.add(1, Action.INTERACT.bit);
+                gameWorld.update(GameWorld.TIME_STEP);
+                cleared = player.getIsCleared();
+                if (cleared) ticks++;
+            }
+            return this;
+        }
+    }
+
+    private final String levelName;
+    private final int threads;
+    private final int maxNodes;
+    private final float weight;
+    private final File outDir;
+    private final File cacheDir;
+
+    private ForkJoinPool pool;
+    private final ThreadLocal<GameWorld> worlds = new ThreadLocal<>();
+    private final List<GameWorld> createdWorlds = new ArrayList<>();
+    private float moveSpeed; // 휴리스틱용 (m/s)
+
+    // 칸별 깃발까지 거리 (빈 칸을 따라 BFS, 못 가는 칸은 -1). 레벨 좌우와 위로 한 칸씩 여유를 둔다 (아래는 떨어지면 죽는 곳)
+    private int[] distances;
+    private int fieldMinX, fieldMinY, fieldWidth, fieldHeight;
+
+    private String script; // 찾은 입력 (없으면 null)
+    private Simulation.Result verified;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    /**
+     * @param levelName 탐색할 레벨
+     * @param threads 평가에 쓸 스레드 수
+     * @param maxNodes 펼칠 최대 노드 수
+     * @param weight 휴리스틱 가중치 (1 이상)
+     * @param outDir 찾은 스크립트를 &lt;레벨&gt;.txt로 쓸 폴더 (null이면 출력만)
+     * @param cacheDir 레벨 파일이 바뀌지 않았으면 다시 쓸 스크립트를 두는 폴더 (null이면 항상 탐색)
+     */
+    public ReachabilitySolver(String levelName, int threads, int maxNodes, float weight, File outDir, File cacheDir) {
+        this.levelName = levelName;
+        this.threads = Math.max(1, threads);
+        this.maxNodes = maxNodes;
+        this.weight = weight;
+        this.outDir = outDir;
+        this.cacheDir = cacheDir;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NoOpGL20.create();
+        pool = new ForkJoinPool(threads);
+        try {
+            Assets.load();
+            String levelHash = levelHash();
+            if (readCache(levelHash)) verify();
+            if (verified != Simulation.Result.CLEARED) {
+                if (script != null) System.out.println("[Solver] cached route for " + levelName + " no longer clears, searching again");
+                script = null;
+                solve();
+                if (script != null) script = "# levelCrc " + levelHash + "\n" + script;
+                if (script != null) verify();
+                if (verified == Simulation.Result.CLEARED) writeCache();
+            }
+        } catch (RuntimeException | IOException e) {
+            e.printStackTrace(); // verified는 null로 남아 실패로 처리됨
+        } finally {
+            pool.shutdownNow();
+            for (GameWorld gameWorld : createdWorlds) {
+                gameWorld.dispose();
+            }
+        }
+        Gdx.app.exit();
+    }
+
+    private void solve() {
+        long start = System.nanoTime();
+
+        // 스폰 애니메이션 동안은 입력이 무시되므로 한 덩어리로 둔다
+        GameWorld probe = new GameWorld(levelName);
+        createdWorlds.add(probe);
+        moveSpeed = probe.getPlayer().getTuning().moveSpeed;
+        buildDistanceField(probe);
+        int spawnTicks = 0;
+        while (probe.getPlayer().getState() == Player.State.SPAWN) {
+            probe.update(GameWorld.TIME_STEP);
+            spawnTicks++;
+        }
+
+        int nextId = 0;
+        PriorityQueue<Node> open = new PriorityQueue<>(1024, BY_PRIORITY);
+        Map<Long, Integer> bestTicks = new HashMap<>();
+        WorldSnapshot spawned = new WorldSnapshot();
+        spawned.capture(probe);
+        Node root = new Node(null, null, spawnTicks, stateKey(probe, 0), 0f, nextId++, spawned);
+        float ticksPerCell = BlockObject.BlockWidth / GameWorld.PPM / moveSpeed / GameWorld.TIME_STEP;
+        open.add(root);
+        bestTicks.put(root.key, root.ticks);
+
+        Node goal = null;
+        int expanded = 0;
+        int evaluated = 0;
+        int closest = distanceOf(probe);
+        List<Evaluate> tasks = new ArrayList<>(BATCH_SIZE * MACROS.length);
+        for (int round = 1; goal == null && !open.isEmpty() && expanded < maxNodes; round++) {
+            tasks.clear();
+            for (int n = 0; n < BATCH_SIZE && !open.isEmpty(); ) {
+                Node node = open.poll();
+                if (bestTicks.get(node.key) < node.ticks) continue; // 더 빨리 도착한 같은 상태가 있음
+                for (Macro macro : MACROS) {
+                    tasks.add(new Evaluate(node, macro));
+                }
+                n++;
+                expanded++;
+            }
+            awaitAll(pool.invokeAll(tasks));
+            evaluated += tasks.size();
+
+            for (Evaluate task : tasks) {
+                int ticks = task.ticks;
+                if (task.cleared) {
+                    if (goal == null || ticks < goal.ticks) goal = new Node(task.parent, task.macro, ticks, 0L, 0f, nextId++, null); // 틱 수는 INTERACT 포함
+                    continue;
+                }
+                if (task.dead) continue;
+                Integer known = bestTicks.get(task.key);
+                if (known != null && known <= ticks) continue;
+                bestTicks.put(task.key, ticks);
+                closest = Math.min(closest, task.distance);
+                float priority = ticks + weight * task.distance * ticksPerCell;
+                open.add(new Node(task.parent, task.macro, ticks, task.key, priority, nextId++, task.state));
+            }
+
+            if (round % PROGRESS_ROUNDS == 0) {
+                System.out.printf("[Solver] %s expanded=%d evaluated=%d states=%d open=%d closest=%d cells%n",
+                    levelName, expanded, evaluated, bestTicks.size(), open.size(), closest);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Solver] level=%s %s expanded=%d evaluated=%d states=%d wall=%.1fs evaluationsPerSecond=%.0f threads=%d%n",
+            levelName, goal != null ? "found ticks=" + goal.ticks + " (bounded-suboptimal, weight=" + weight + ")" : "NOT FOUND closest=" + closest + " cells",
+            expanded, evaluated, bestTicks.size(), seconds, evaluated / Math.max(seconds, 1e-9), threads);
+        if (goal != null) script = toScript(goal, expanded);
+    }
+
+    // 새 월드에서 스크립트를 처음부터 돌려 본다 (탐색은 스냅샷으로 되돌린 월드를 쓰므로)
+    private void verify() throws IOException {
+        GameWorld gameWorld = new GameWorld(levelName);
+        createdWorlds.add(gameWorld);
+        ScriptedInput input = ScriptedInput.parse(script);
+        gameWorld.setInputSource(input);
+        Simulation simulation = new Simulation(gameWorld, input.getLength(), false);
+        verified = simulation.run();
+        System.out.println("[Solver] verify " + levelName + " result=" + verified + " ticks=" + simulation.getTicks());
+        if (verified != Simulation.Result.CLEARED) return;
+
+        if (outDir == null) {
+            System.out.print(script);
+            return;
+        }
+        outDir.mkdirs();
+        File file = new File(outDir, levelName + ".txt");
+        Files.write(file.toPath(), script.getBytes(StandardCharsets.UTF_8));
+        System.out.println("[Solver] " + file.getPath());
+    }
+
+    // 레벨 원본(JSON)의 CRC32 (캐시 키)
+    private String levelHash() {
+        CRC32 crc = new CRC32();
+        crc.update(Gdx.files.internal("levels/" + levelName + ".json").readBytes());
+        return Long.toHexString(crc.getValue());
+    }
+
+    // 같은 레벨 파일로 찾았던 스크립트가 있으면 script에 읽는다
+    private boolean readCache(String levelHash) throws IOException {
+        if (cacheDir == null) return false;
+        File file = new File(cacheDir, levelName + ".txt");
+        if (!file.exists()) return false;
+        String cached = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        if (!cached.startsWith("# levelCrc " + levelHash + "\n")) return false;
+        System.out.println("[Solver] level=" + levelName + " unchanged (crc " + levelHash + "), replaying " + file.getPath());
+        script = cached;
+        return true;
+    }
+
+    private void writeCache() throws IOException {
+        if (cacheDir == null) return;
+        cacheDir.mkdirs();
+        Files.write(new File(cacheDir, levelName + ".txt").toPath(), script.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 평가 중 예외가 있으면 그대로 실패로 올린다
+    private static void awaitAll(List<Future<Evaluate>> futures) {
+        for (Future<Evaluate> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GdxRuntimeException("Solver interrupted", e);
+            } catch (ExecutionException e) {
+                throw new GdxRuntimeException("Node evaluation failed", e.getCause());
+            }
+        }
+    }
+
+    private GameWorld worldOfCurrentThread() {
+        GameWorld gameWorld = worlds.get();
+        if (gameWorld == null) {
+            gameWorld = new GameWorld(levelName);
+            worlds.set(gameWorld);
+            synchronized (createdWorlds) {
+                createdWorlds.add(gameWorld);
+            }
+        }
+        return gameWorld;
+    }
+
+    // 같은 동작이 이어지는 구간을 합쳐 ScriptedInput 형식으로 (마지막은 깃발 INTERACT 한 틱)
+    private String toScript(Node goal, int expanded) {
+        List<Node> path = new ArrayList<>();
+        for (Node n = goal; n != null; n = n.parent) path.add(n);
+        Collections.reverse(path);
+
+        StringBuilder text = new StringBuilder();
+        text.append("# ").append(levelName).append(" 클리어 입력 (ReachabilitySolver, ")
+            .append(goal.ticks).append("틱, 최단 아님: weight ").append(weight).append(", 노드 ").append(expanded).append("개)\n");
+        text.append("# <틱 수> <동작[+동작...]>, '-'는 입력 없음. 1틱 = 1/60초\n");
+        int mask = 0;
+        int ticks = 0;
+        for (Node n : path) {
+            int nodeMask = n.macro == null ? 0 : n.macro.mask;
+            int nodeTicks = n.macro == null ? n.ticks : n.macro.ticks;
+            if (nodeMask != mask && ticks > 0) {
+                text.append(ticks).append(' ').append(Action.toText(mask)).append('\n');
+                ticks = 0;
+            }
+            mask = nodeMask;
+            ticks += nodeTicks;
+        }
+        if (ticks > 0) text.append(ticks).append(' ').append(Action.toText(mask)).append('\n');
+        text.append("1 INTERACT\n");
+        return text.toString();
+    }
+
+    // 도착 상태의 양자화 키 (같은 키면 더 늦게 도착한 쪽을 버린다)
+    private static long stateKey(GameWorld gameWorld, int lastMask) {
+        Player player = gameWorld.getPlayer();
+        Vector2 position = player.getBody().getPosition();
+        Vector2 velocity = player.getBody().getLinearVelocity();
+        long key = 17;
+        key = key * 31 + Math.round(position.x / POSITION_STEP);
+        key = key * 31 + Math.round(position.y / POSITION_STEP);
+        key = key * 31 + Math.round(velocity.x / VELOCITY_STEP);
+        key = key * 31 + Math.round(velocity.y / VELOCITY_STEP);
+        key = key * 31 + player.getState().ordinal();
+        key = key * 31 + (player.isGrounded() ? 1 : 0) + (player.isOnWall() ? 2 : 0) + (player.canDash() ? 4 : 0)
+            + (Action.JUMP.isIn(lastMask) ? 8 : 0); // 누르고 있으면 다음 매크로에서 점프가 이어진다
+        key = key * 31 + (int) (player.getOnWallTimer() / WALL_TIMER_STEP);
+        // 바닥에서 대시 쿨타임을 기다리는 것도 다른 상태로 봐야 한다 (공중에서는 착지해야 충전되므로 나누지 않는다)
+        if (!player.canDash() && player.isGrounded()) key = key * 31 + (int) (player.getDashTimer() / DASH_TIMER_STEP);
+        // 부서진 상자 칸 (집합 순서와 무관하도록 더한다)
+        long boxes = 0;
+        IntSet.IntSetIterator cells = gameWorld.level.getDestroyedBoxes().iterator();
+        while (cells.hasNext) {
+            boxes += cells.next() * 0x9E3779B97F4A7C15L;
+        }
+        return key * 31 + boxes;
+    }
+
+    // 깃발 칸에서 시작해 빈 칸을 따라 BFS (상자, 표지판은 지나갈 수 있는 것으로 본다)
+    private void buildDistanceField(GameWorld gameWorld) {
+        TileMap map = gameWorld.level.getTileMap();
+        Vector2 size = gameWorld.level.getLevelSize();
+        fieldMinX = -1;
+        fieldMinY = 0;
+        fieldWidth = (int) Math.ceil(size.x / BlockObject.BlockWidth) + 2;
+        fieldHeight = (int) Math.ceil(size.y / BlockObject.BlockHeight) + 1;
+        distances = new int[fieldWidth * fieldHeight];
+        Arrays.fill(distances, -1);
+
+        Vector2 flag = gameWorld.level.getFlagPosition();
+        IntArray queue = new IntArray();
+        int start = cellIndex((int) (flag.x / BlockObject.BlockWidth), (int) (flag.y / BlockObject.BlockHeight));
+        distances[start] = 0;
+        queue.add(start);
+        for (int head = 0; head < queue.size; head++) {
+            int cell = queue.get(head);
+            int x = cell % fieldWidth + fieldMinX;
+            int y = cell / fieldWidth + fieldMinY;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + (d == 0 ? 1 : d == 1 ? -1 : 0);
+                int ny = y + (d == 2 ? 1 : d == 3 ? -1 : 0);
+                int next = cellIndex(nx, ny);
+                if (next < 0 || distances[next] >= 0 || map.isSolid(nx, ny)) continue;
+                distances[next] = distances[cell] + 1;
+                queue.add(next);
+            }
+        }
+    }
+
+    private int cellIndex(int x, int y) {
+        x -= fieldMinX;
+        y -= fieldMinY;
+        if (x < 0 || y < 0 || x >= fieldWidth || y >= fieldHeight) return -1;
+        return y * fieldWidth + x;
+    }
+
+    // 플레이어 중심이 있는 칸의 깃발까지 거리 (못 가는 칸이면 필드 크기)
+    private int distanceOf(GameWorld gameWorld) {
+        Vector2 position = gameWorld.getPlayer().getBody().getPosition();
+        int cell = cellIndex((int) Math.floor(position.x * GameWorld.PPM / BlockObject.BlockWidth),
+            (int) Math.floor(position.y * GameWorld.PPM / BlockObject.BlockHeight));
+        if (cell < 0 || distances[cell] < 0) return distances.length;
+        return distances[cell];
+    }
+
+    @Override
+    public void dispose() {
+        Assets.dispose();
+        Fonts.dispose();
+        finished.countDown();
+    }
+
+    // 애플리케이션 스레드가 탐색과 정리를 마칠 때까지 대기
+    public void awaitFinished() throws InterruptedException {
+        finished.await();
+    }
+
+    /** 찾은 스크립트가 새 월드에서 클리어되었으면 true */
+    public boolean isSolved() {
+        return verified == Simulation.Result.CLEARED;
+    }
+
+    public String getScript() {
+        return script;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> levels = new ArrayList<>();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxNodes = DEFAULT_MAX_NODES;
+        float weight = DEFAULT_WEIGHT;
+        File outDir = null;
+        File cacheDir = null;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                levels.add(arg);
+                continue;
+            }
+            if (i + 1 >= args.length) usage();
+            String value = args[++i];
+            if (arg.equals("--threads")) threads = Integer.parseInt(value);
+            else if (arg.equals("--maxNodes")) maxNodes = Integer.parseInt(value);
+            else if (arg.equals("--weight")) weight = Float.parseFloat(value);
+            else if (arg.equals("--out")) outDir = new File(value);
+            else if (arg.equals("--cache")) cacheDir = new File(value);
+            else usage();
+        }
+        if (levels.isEmpty()) usage();
+
+        boolean solved = true;
+        for (String level : levels) {
+            ReachabilitySolver solver = new ReachabilitySolver(level, threads, maxNodes, weight, outDir, cacheDir);
+            HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+            configuration.updatesPerSecond = -1; // create()에서 모두 실행하므로 렌더 루프 불필요
+            new HeadlessApplication(solver, configuration);
+            solver.awaitFinished();
+            solved &= solver.isSolved();
+        }
+        System.exit(solved ? 0 : 1);
+    }
+
+    private static void usage() {
+        System.out.println("Usage: HeadlessLauncher --solve <level...> [--threads N] [--maxNodes N] [--weight W] [--out dir] [--cache dir]");
+        System.out.println("  Routes are bounded-suboptimal, not shortest: weight > 1 trades route length for search time (default " + DEFAULT_WEIGHT + ").");
+        System.out.println("  --cache replays the stored route instead of searching when the level file is unchanged.");
+        System.exit(2);
+    }
+}
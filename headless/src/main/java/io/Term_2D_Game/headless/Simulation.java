@@ -0,0 +1,68 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.Player.Player;
+
+/**
+ * GameWorld 하나를 고정 TIME_STEP으로 CPU가 허용하는 만큼 빠르게 돌리는 플레이 한 번.
+ * 깃발에 도달하면 CLEARED, 레벨 밖으로 떨어지면 DIED, maxTicks까지 끝나지 않으면 TIMEOUT.
+ * soak 모드에서는 클리어/사망과 무관하게 maxTicks까지 계속 돈다 (물리 장시간 실행 테스트).
+ *
+ * 렌더링 없이 자기 월드만 건드리므로 서로 다른 Simulation은 다른 스레드에서 동시에 돌릴 수 있다 (SimulationFarm).
+ */
+public class Simulation {
+    public enum Result {
+        CLEARED, DIED, TIMEOUT, SOAK_DONE
+    }
+
+    private final GameWorld gameWorld;
+    private final int maxTicks;
+    private final boolean soak;
+
+    private Result result;
+    private int ticks;
+    private long elapsedNanos;
+
+    public Simulation(GameWorld gameWorld, int maxTicks, boolean soak) {
+        this.gameWorld = gameWorld;
+        this.maxTicks = maxTicks;
+        this.soak = soak;
+    }
+
+    public Result run() {
+        long start = System.nanoTime();
+        try {
+            for (ticks = 0; ticks < maxTicks; ) {
+                gameWorld.update(GameWorld.TIME_STEP);
+                ticks++;
+
+                if (soak) continue;
+                Player player = gameWorld.getPlayer();
+                if (player.getIsCleared()) return result = Result.CLEARED;
+                if (player.getState() == Player.State.DEAD) return result = Result.DIED;
+            }
+            return result = soak ? Result.SOAK_DONE : Result.TIMEOUT;
+        } finally {
+            elapsedNanos = System.nanoTime() - start;
+        }
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // 플레이어 Body 위치 (미터)
+    public Vector2 getPlayerPosition() {
+        return gameWorld.getPlayer().getBody().getPosition();
+    }
+}
@@ -0,0 +1,365 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.Fonts;
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.Input.ScriptedInput;
+import io.Term_2D_Game.Player.PlayerTuning;
+
+/**
+ * 스크립트 플레이 여러 개를 코어 수만큼의 스레드에서 동시에 돌린다 (Player 이동 수치 조정, 대량 회귀 테스트용).
+ *
+ * 플레이마다 자기 GameWorld(Box2D 월드, 레벨, 플레이어)와 입력을 새로 만들어 고정 TIME_STEP으로 돌린다.
+ * 공유하는 것은 에셋뿐이다. 처음에 Assets.load로 모두 올려 두므로 작업 중에는 참조 수만 바뀌고(Assets 잠금 안에서),
+ * 리전 조회는 잠그지 않는 ConcurrentHashMap에서 읽는다.
+ * 같은 작업을 반복하면 결과가 모두 같아야 하며, 다르면 결정성이 깨진 것으로 보고 실패한다.
+ *
+ * 사용법: HeadlessLauncher --farm &lt;작업 파일&gt; [--threads N] [--repeat N]
+ *        [--moveSpeed a,b,...] [--jumpForce a,b,...] [--dashSpeed a,b,...]
+ * 작업 파일은 한 줄에 "&lt;레벨&gt; &lt;입력 스크립트&gt; [최대 틱 수]" (스크립트 경로는 작업 파일 기준, '#' 뒤는 주석).
+ * 수치 목록을 주면 모든 조합 x 모든 작업을 돌리고 조합별 클리어 수를 출력한다.
+ */
+public class SimulationFarm extends ApplicationAdapter {
+    private static final int DEFAULT_MAX_TICKS = 60 * 60 * 10; // 10분
+
+    /** 플레이 한 번 (레벨, 입력 스크립트, 이동 수치) */
+    public static class Job {
+        public final String level;
+        public final String scriptName;
+        public final String script; // ScriptedInput 형식 (입력은 상태가 있으므로 플레이마다 새로 파싱)
+        public final int maxTicks;
+        public final PlayerTuning tuning;
+
+        public Job(String level, String scriptName, String script, int maxTicks, PlayerTuning tuning) {
+            this.level = level;
+            this.scriptName = scriptName;
+            this.script = script;
+            this.maxTicks = maxTicks;
+            this.tuning = tuning;
+        }
+
+        // 같은 키의 작업은 결과가 같아야 한다
+        String key() {
+            return level + " " + scriptName + " " + tuning;
+        }
+    }
+
+    /** 플레이 결과 (예외로 중단되면 result가 null) */
+    public static class Outcome {
+        public final Job job;
+        public final Simulation.Result result;
+        public final int ticks;
+        public final long nanos;
+        public final String worker; // 실행한 스레드 이름
+        public final float playerX, playerY;
+
+        Outcome(Job job, Simulation.Result result, int ticks, long nanos, String worker, float playerX, float playerY) {
+            this.job = job;
+            this.result = result;
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.worker = worker;
+            this.playerX = playerX;
+            this.playerY = playerY;
+        }
+
+        boolean sameAs(Outcome other) {
+            return result == other.result && ticks == other.ticks && playerX == other.playerX && playerY == other.playerY;
+        }
+    }
+
+    private final List<Job> jobs;
+    private final int threads;
+    private final List<Outcome> outcomes = new ArrayList<>();
+    private long wallNanos;
+    private boolean failed;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    /**
+     * @param jobs 돌릴 플레이 목록
+     * @param threads 작업 스레드 수 (보통 코어 수)
+     */
+    public SimulationFarm(List<Job> jobs, int threads) {
+        this.jobs = jobs;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NoOpGL20.create();
+        try {
+            Assets.load();
+            run();
+            report();
+        } catch (RuntimeException | InterruptedException e) {
+            e.printStackTrace();
+            failed = true;
+        }
+        Gdx.app.exit();
+    }
+
+    /** 모든 작업을 스레드 풀에서 돌린다. 결과는 작업 순서대로 getOutcomes에 쌓인다 */
+    public void run() throws InterruptedException {
+        final AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "SimulationFarm-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        long start = System.nanoTime();
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>(jobs.size());
+            for (final Job job : jobs) {
+                futures.add(executor.submit(new Callable<Outcome>() {
+                    @Override
+                    public Outcome call() {
+                        return play(job);
+                    }
+                }));
+            }
+            outcomes.clear();
+            for (Future<Outcome> future : futures) {
+                try {
+                    outcomes.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new GdxRuntimeException(e.getCause());
+                }
+            }
+        } finally {
+            wallNanos = System.nanoTime() - start;
+            executor.shutdownNow();
+        }
+    }
+
+    // 작업 스레드에서 실행 (월드는 이 스레드 안에서만 만들고 버린다)
+    private static Outcome play(Job job) {
+        String worker = Thread.currentThread().getName();
+        GameWorld gameWorld = null;
+        try {
+            gameWorld = new GameWorld(job.level, job.tuning);
+            gameWorld.setInputSource(ScriptedInput.parse(job.script));
+            Simulation simulation = new Simulation(gameWorld, job.maxTicks, false);
+            Simulation.Result result = simulation.run();
+            Vector2 position = simulation.getPlayerPosition();
+            return new Outcome(job, result, simulation.getTicks(), simulation.getElapsedNanos(), worker, position.x, position.y);
+        } catch (RuntimeException e) {
+            System.out.println("[Farm] " + job.key() + " 실패: " + e);
+            return new Outcome(job, null, 0, 0, worker, 0f, 0f);
+        } finally {
+            if (gameWorld != null) gameWorld.dispose();
+        }
+    }
+
+    private void report() {
+        // 이동 수치 조합별 결과
+        Map<String, int[]> byTuning = new LinkedHashMap<>(); // [플레이, CLEARED, DIED, TIMEOUT, 오류, 클리어 틱 합]
+        Map<String, Set<String>> failedLevels = new LinkedHashMap<>();
+        Map<String, Outcome> firstByKey = new LinkedHashMap<>();
+        Set<String> nondeterministic = new LinkedHashSet<>();
+        Map<String, long[]> byWorker = new TreeMap<>(); // [플레이, 틱, 시간(ns)]
+        long totalTicks = 0;
+        long busyNanos = 0;
+
+        for (Outcome outcome : outcomes) {
+            String tuning = outcome.job.tuning.toString();
+            int[] stats = byTuning.get(tuning);
+            if (stats == null) {
+                stats = new int[6];
+                byTuning.put(tuning, stats);
+                failedLevels.put(tuning, new LinkedHashSet<String>());
+            }
+            stats[0]++;
+            if (outcome.result == null) stats[4]++;
+            else if (outcome.result == Simulation.Result.CLEARED) {
+                stats[1]++;
+                stats[5] += outcome.ticks;
+            } else if (outcome.result == Simulation.Result.DIED) stats[2]++;
+            else stats[3]++;
+            if (outcome.result != Simulation.Result.CLEARED) failedLevels.get(tuning).add(outcome.job.level);
+
+            Outcome first = firstByKey.get(outcome.job.key());
+            if (first == null) firstByKey.put(outcome.job.key(), outcome);
+            else if (!first.sameAs(outcome)) nondeterministic.add(outcome.job.key());
+
+            long[] worker = byWorker.get(outcome.worker);
+            if (worker == null) {
+                worker = new long[3];
+                byWorker.put(outcome.worker, worker);
+            }
+            worker[0]++;
+            worker[1] += outcome.ticks;
+            worker[2] += outcome.nanos;
+            totalTicks += outcome.ticks;
+            busyNanos += outcome.nanos;
+        }
+
+        for (Map.Entry<String, int[]> entry : byTuning.entrySet()) {
+            int[] stats = entry.getValue();
+            System.out.printf("[Farm] %s cleared=%d/%d died=%d timeout=%d errors=%d avgClearTicks=%.0f%s%n",
+                entry.getKey(), stats[1], stats[0], stats[2], stats[3], stats[4],
+                stats[1] > 0 ? (double) stats[5] / stats[1] : 0.0,
+                failedLevels.get(entry.getKey()).isEmpty() ? "" : " failed=" + failedLevels.get(entry.getKey()));
+        }
+        for (Map.Entry<String, long[]> entry : byWorker.entrySet()) {
+            long[] worker = entry.getValue();
+            double seconds = worker[2] / 1e9;
+            System.out.printf("[Farm] %s runs=%d ticks=%d busy=%.2fs ticksPerSecond=%.0f%n",
+                entry.getKey(), worker[0], worker[1], seconds, worker[1] / Math.max(seconds, 1e-9));
+        }
+
+        double wallSeconds = wallNanos / 1e9;
+        System.out.printf("[Farm] runs=%d threads=%d wall=%.2fs runsPerMinute=%.0f ticksPerSecond=%.0f (per thread %.0f) parallelism=%.1fx%n",
+            outcomes.size(), threads, wallSeconds, outcomes.size() * 60 / Math.max(wallSeconds, 1e-9),
+            totalTicks / Math.max(wallSeconds, 1e-9), totalTicks / Math.max(wallSeconds, 1e-9) / threads,
+            busyNanos / (double) Math.max(wallNanos, 1));
+
+        for (String key : nondeterministic) {
+            System.out.println("[Farm] 같은 작업의 결과가 다릅니다 (결정성 깨짐): " + key);
+        }
+        for (int[] stats : byTuning.values()) {
+            if (stats[4] > 0) failed = true;
+        }
+        if (!nondeterministic.isEmpty()) failed = true;
+    }
+
+    @Override
+    public void dispose() {
+        Assets.dispose();
+        Fonts.dispose();
+        finished.countDown();
+    }
+
+    // 애플리케이션 스레드가 모든 작업과 정리를 마칠 때까지 대기
+    public void awaitFinished() throws InterruptedException {
+        finished.await();
+    }
+
+    public List<Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /** 오류가 난 플레이가 있거나 반복 결과가 달랐으면 true (클리어 실패는 포함하지 않는다) */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * 작업 파일과 옵션으로 작업 목록을 만든다. (이동 수치 조합 x 작업 파일의 줄 x 반복 횟수)
+     * @param args [작업 파일, --threads N, --repeat N, --moveSpeed a,b, --jumpForce a,b, --dashSpeed a,b]
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String jobFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int repeat = 1;
+        float[] moveSpeeds = {PlayerTuning.DEFAULT_MOVE_SPEED};
+        float[] jumpForces = {PlayerTuning.DEFAULT_JUMP_FORCE};
+        float[] dashSpeeds = {PlayerTuning.DEFAULT_DASH_SPEED};
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (!arg.startsWith("--")) {
+                jobFile = arg;
+                continue;
+            }
+            if (i + 1 >= args.length) usage();
+            String value = args[++i];
+            if (arg.equals("--threads")) threads = Integer.parseInt(value);
+            else if (arg.equals("--repeat")) repeat = Integer.parseInt(value);
+            else if (arg.equals("--moveSpeed")) moveSpeeds = parseValues(value);
+            else if (arg.equals("--jumpForce")) jumpForces = parseValues(value);
+            else if (arg.equals("--dashSpeed")) dashSpeeds = parseValues(value);
+            else usage();
+        }
+        if (jobFile == null) usage();
+
+        List<Job> lines = readJobs(new File(jobFile));
+        List<Job> jobs = new ArrayList<>();
+        for (float moveSpeed : moveSpeeds) {
+            for (float jumpForce : jumpForces) {
+                for (float dashSpeed : dashSpeeds) {
+                    PlayerTuning tuning = new PlayerTuning(moveSpeed, jumpForce, dashSpeed);
+                    for (Job line : lines) {
+                        for (int r = 0; r < repeat; r++) {
+                            // 조합마다 PlayerTuning 하나를 작업들이 같이 읽는다 (Player는 수치를 바꾸지 않는다)
+                            jobs.add(new Job(line.level, line.scriptName, line.script, line.maxTicks, tuning));
+                        }
+                    }
+                }
+            }
+        }
+        System.out.println("[Farm] " + jobs.size() + " runs on " + threads + " threads");
+
+        SimulationFarm farm = new SimulationFarm(jobs, threads);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // create()에서 모두 실행하므로 렌더 루프 불필요
+        new HeadlessApplication(farm, configuration);
+
+        farm.awaitFinished();
+        System.exit(farm.isFailed() ? 1 : 0);
+    }
+
+    // 작업 파일의 각 줄 (이동 수치는 기본값)
+    private static List<Job> readJobs(File file) throws IOException {
+        List<Job> jobs = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length < 2) throw new GdxRuntimeException("Invalid job line " + (i + 1) + ": " + lines.get(i));
+            File script = new File(file.getAbsoluteFile().getParentFile(), parts[1]);
+            jobs.add(new Job(parts[0], parts[1], new String(Files.readAllBytes(script.toPath()), StandardCharsets.UTF_8),
+                parts.length > 2 ? Integer.parseInt(parts[2]) : DEFAULT_MAX_TICKS, new PlayerTuning()));
+        }
+        return jobs;
+    }
+
+    private static float[] parseValues(String list) {
+        String[] parts = list.split(",");
+        float[] values = new float[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Float.parseFloat(parts[i].trim());
+        }
+        return values;
+    }
+
+    private static void usage() {
+        System.out.println("Usage: HeadlessLauncher --farm <jobs> [--threads N] [--repeat N] "
+            + "[--moveSpeed a,b] [--jumpForce a,b] [--dashSpeed a,b]");
+        System.exit(2);
+    }
+}
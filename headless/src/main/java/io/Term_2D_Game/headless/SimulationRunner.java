@@ -0,0 +1,111 @@
+package io.Term_2D_Game.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.concurrent.CountDownLatch;
+
+import io.Term_2D_Game.Assets;
+import io.Term_2D_Game.Fonts;
+import io.Term_2D_Game.GameWorld;
+import io.Term_2D_Game.Input.ScriptedInput;
+
+/**
+ * 창 없이 레벨 하나를 Simulation으로 돌리고 결과를 출력하는 헤드리스 애플리케이션 (HeadlessLauncher).
+ * restarts가 있으면 같은 월드를 restartCurrentLevel로 되돌려 입력을 다시 돌리고,
+ * 결과(틱 수, 플레이어 위치 비트)가 처음 올린 월드와 다르면 실패로 처리한다 (제자리 재시작 결정성 검사).
+ */
+public class SimulationRunner extends ApplicationAdapter {
+    private final String levelName;
+    private final ScriptedInput input;
+    private final int maxTicks;
+    private final boolean soak;
+    private final int restarts;
+
+    private GameWorld gameWorld;
+    private Simulation simulation;
+    private Simulation.Result result;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    public SimulationRunner(String levelName, ScriptedInput input, int maxTicks, boolean soak) {
+        this(levelName, input, maxTicks, soak, 0);
+    }
+
+    /**
+     * @param restarts 첫 실행 뒤 제자리 재시작으로 다시 돌려 볼 횟수
+     */
+    public SimulationRunner(String levelName, ScriptedInput input, int maxTicks, boolean soak, int restarts) {
+        this.levelName = levelName;
+        this.input = input;
+        this.maxTicks = maxTicks;
+        this.soak = soak;
+        this.restarts = restarts;
+    }
+
+    @Override
+    public void create() {
+        Gdx.gl = Gdx.gl20 = NoOpGL20.create();
+        try {
+            Assets.load();
+            gameWorld = new GameWorld(levelName);
+            gameWorld.setInputSource(input);
+
+            simulation = new Simulation(gameWorld, maxTicks, soak);
+            result = simulation.run();
+            report();
+            for (int i = 1; i <= restarts && result != null; i++) {
+                checkRestart(i);
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace(); // result는 null로 남아 실패로 처리됨
+        }
+        Gdx.app.exit();
+    }
+
+    // 첫 실행과 같은 틱에 같은 위치(비트 단위)로 끝나야 한다
+    private void checkRestart(int attempt) {
+        int ticks = simulation.getTicks();
+        Vector2 position = simulation.getPlayerPosition();
+        int x = Float.floatToIntBits(position.x);
+        int y = Float.floatToIntBits(position.y);
+
+        gameWorld.restartCurrentLevel();
+        input.rewind();
+        Simulation replay = new Simulation(gameWorld, maxTicks, soak);
+        Simulation.Result replayResult = replay.run();
+        Vector2 replayPosition = replay.getPlayerPosition();
+        boolean same = replayResult == result && replay.getTicks() == ticks
+            && Float.floatToIntBits(replayPosition.x) == x && Float.floatToIntBits(replayPosition.y) == y;
+        System.out.printf("[Headless] restart=%d result=%s ticks=%d player=(%.4f, %.4f) %s%n",
+            attempt, replayResult, replay.getTicks(), replayPosition.x, replayPosition.y, same ? "MATCH" : "MISMATCH");
+        if (!same) result = null; // 실패로 처리
+        simulation = replay;
+    }
+
+    private void report() {
+        int ticks = simulation.getTicks();
+        double seconds = simulation.getElapsedNanos() / 1e9;
+        Vector2 position = simulation.getPlayerPosition();
+        System.out.printf("[Headless] level=%s result=%s ticks=%d simTime=%.2fs wall=%.1fms ticksPerSecond=%.0f player=(%.4f, %.4f)%n",
+            levelName, result, ticks, ticks * GameWorld.TIME_STEP, seconds * 1000, ticks / Math.max(seconds, 1e-9),
+            position.x, position.y);
+    }
+
+    @Override
+    public void dispose() {
+        if (gameWorld != null) gameWorld.dispose();
+        Assets.dispose();
+        Fonts.dispose();
+        finished.countDown();
+    }
+
+    // 애플리케이션 스레드가 시뮬레이션과 정리를 마칠 때까지 대기
+    public void awaitFinished() throws InterruptedException {
+        finished.await();
+    }
+
+    public Simulation.Result getResult() {
+        return result;
+    }
+}
@@ -40,7 +40,7 @@ public class Lwjgl3Launcher {
         //// are not intended for games that use GL30 (which is compatibility with OpenGL ES 3.0).
         configuration.setOpenGLEmulation(Lwjgl3ApplicationConfiguration.GLEmulation.ANGLE_GLES20, 0, 0);
 
-        configuration.setBackBufferConfig(8, 8, 8, 8, 16, 8, 0);
+        configuration.setBackBufferConfig(8, 8, 8, 8, 16, 0, 0); // FadeEffect가 셰이더로 그리므로 스텐실 불필요
 
         return configuration;
     }